@@ -43,7 +43,8 @@ public enum InstanceType implements JsonString {
     INTEGER {
         @Override
         public boolean isInstance(final JsonValue value) {
-            return value instanceof JsonNumber nr && isIntegral(nr.bigDecimalValue());
+            //isIntegral is defined by the scale of the number -> only numbers like 1.0 need the expensive check
+            return value instanceof JsonNumber nr && (nr.isIntegral() || isIntegral(nr.bigDecimalValue()));
         }
 
         @SuppressWarnings("BigDecimalEquals")
@@ -0,0 +1,56 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema;
+
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Map;
+
+/**
+ * Reads json texts with one cached reader and parser factory: {@link jakarta.json.Json#createReader(java.io.Reader)}
+ * and {@link jakarta.json.Json#createParser(java.io.Reader)} look up the {@link JsonProvider} on every call.
+ */
+final class JsonReaders {
+
+    private static final JsonReaderFactory READER_FACTORY = JsonProvider.provider().createReaderFactory(Map.of());
+    private static final JsonParserFactory PARSER_FACTORY = JsonProvider.provider().createParserFactory(Map.of());
+
+    static JsonValue read(final String json) {
+        try (final JsonReader reader = READER_FACTORY.createReader(new StringReader(json))) {
+            return reader.readValue();
+        }
+    }
+
+    static JsonParser parser(final Reader json) {
+        return PARSER_FACTORY.createParser(json);
+    }
+
+    private JsonReaders() {}
+}
@@ -25,8 +25,14 @@ package io.github.sebastiantoepfer.jsonschema;
 
 import io.github.sebastiantoepfer.ddd.common.Printable;
 import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
+import jakarta.json.JsonException;
 import jakarta.json.JsonPointer;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.BitSet;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -45,4 +51,83 @@ public interface JsonSchema extends JsonValue, Applicable, Printable {
     default JsonSchema rootSchema() {
         return this;
     }
+
+    /**
+     * Applies this schema to the next value of the parser. Implementations may evaluate the value while it is read
+     * and stop reading as soon as it is invalid, the position of the parser is undefined in this case. This default
+     * implementation reads the whole value first.
+     *
+     * @param parser parser positioned before the value
+     * @return true if this schema applies to the value
+     */
+    default boolean applyTo(final JsonParser parser) {
+        parser.next();
+        return applyTo(parser.getValue());
+    }
+
+    /**
+     * Applies this schema to all instances, one after another, without any per instance setup.
+     *
+     * @param instances instances to validate
+     * @return the indices of the instances this schema does not apply to
+     */
+    default BitSet failuresOf(final Iterator<? extends JsonValue> instances) {
+        final BitSet result = new BitSet();
+        for (int index = 0; instances.hasNext(); index++) {
+            if (!applyTo(instances.next())) {
+                result.set(index);
+            }
+        }
+        return result;
+    }
+
+    default BitSet failuresOf(final Iterable<? extends JsonValue> instances) {
+        return failuresOf(instances.iterator());
+    }
+
+    default BitSet failuresOf(final Stream<? extends JsonValue> instances) {
+        return failuresOf(instances.iterator());
+    }
+
+    /**
+     * Reads all documents with one shared reader factory and applies this schema to them, one after another.
+     *
+     * @param documents json texts to validate
+     * @return the indices of the documents this schema does not apply to or which are not valid json
+     */
+    default BitSet failuresOfDocuments(final Iterator<String> documents) {
+        final BitSet result = new BitSet();
+        for (int index = 0; documents.hasNext(); index++) {
+            if (!applyToDocument(documents.next())) {
+                result.set(index);
+            }
+        }
+        return result;
+    }
+
+    default BitSet failuresOfDocuments(final Iterable<String> documents) {
+        return failuresOfDocuments(documents.iterator());
+    }
+
+    private boolean applyToDocument(final String document) {
+        return applyToDocument(new StringReader(document));
+    }
+
+    /**
+     * Parses the document and applies this schema while it is read (see {@link #applyTo(JsonParser)}). Parts of the
+     * document which no keyword constrains (e.g. described by true or {}) are only checked to be well-formed, they
+     * are never built as {@link JsonValue}.
+     *
+     * @param document json text to validate, it is closed afterwards
+     * @return true if the document is valid json and this schema applies to it
+     */
+    default boolean applyToDocument(final Reader document) {
+        boolean result;
+        try (final JsonParser parser = JsonReaders.parser(document)) {
+            result = applyTo(parser) && !parser.hasNext();
+        } catch (JsonException e) {
+            result = false;
+        }
+        return result;
+    }
 }
@@ -24,10 +24,7 @@
 package io.github.sebastiantoepfer.jsonschema;
 
 import io.github.sebastiantoepfer.jsonschema.spi.JsonSchemaFactory;
-import jakarta.json.Json;
-import jakarta.json.JsonReader;
 import jakarta.json.JsonValue;
-import java.io.StringReader;
 import java.util.ServiceLoader;
 
 public final class JsonSchemas {
@@ -37,9 +34,7 @@ public final class JsonSchemas {
         .orElseThrow();
 
     public static JsonSchema load(final String schema) {
-        try (JsonReader reader = Json.createReader(new StringReader(schema))) {
-            return load(reader.readValue());
-        }
+        return load(JsonReaders.read(schema));
     }
 
     public static JsonSchema load(final JsonValue schema) {
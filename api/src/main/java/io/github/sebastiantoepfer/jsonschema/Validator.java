@@ -23,16 +23,11 @@
  */
 package io.github.sebastiantoepfer.jsonschema;
 
-import jakarta.json.Json;
-import jakarta.json.JsonReader;
 import jakarta.json.JsonValue;
-import java.io.StringReader;
 
 public interface Validator {
     default boolean isValid(final String data) {
-        try (final JsonReader reader = Json.createReader(new StringReader(data))) {
-            return isValid(reader.readValue());
-        }
+        return isValid(JsonReaders.read(data));
     }
 
     boolean isValid(final JsonValue data);
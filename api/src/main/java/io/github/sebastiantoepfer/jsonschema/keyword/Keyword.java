@@ -25,6 +25,7 @@ package io.github.sebastiantoepfer.jsonschema.keyword;
 
 import io.github.sebastiantoepfer.ddd.common.Printable;
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * see: https://json-schema.org/draft/2020-12/json-schema-core.html#name-json-schema-objects-and-key
@@ -50,6 +51,19 @@ public interface Keyword extends Printable {
         return (ReservedLocation) this;
     }
 
+    /**
+     * @return the statistics of the memo, if this keyword memoizes results across instances
+     */
+    default Optional<MemoStatistics> memoStatistics() {
+        final Optional<MemoStatistics> result;
+        if (this instanceof MemoStatistics statistics) {
+            result = Optional.of(statistics);
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
     default boolean hasCategory(final KeywordCategory category) {
         return categories().contains(category);
     }
@@ -0,0 +1,87 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.spi;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Provides the schemas below a base uri from the classpath. The path of the uri relative to the base uri is used
+ * as name of the resource below the resource root, if there is no resource with this name the name with the suffix
+ * <i>.json</i> is tried.
+ * To resolve references with it, register an instance with {@link SchemaLoaders#register(SchemaLoader)}.
+ */
+public final class ClasspathSchemaLoader implements SchemaLoader {
+
+    private final String baseUri;
+    private final String resourceRoot;
+    private final ClassLoader classLoader;
+
+    public ClasspathSchemaLoader(final URI baseUri, final String resourceRoot) {
+        this(baseUri, resourceRoot, ClasspathSchemaLoader.class.getClassLoader());
+    }
+
+    public ClasspathSchemaLoader(final URI baseUri, final String resourceRoot, final ClassLoader classLoader) {
+        this.baseUri = baseUri.toString();
+        this.resourceRoot = resourceRoot.endsWith("/") ? resourceRoot : resourceRoot.concat("/");
+        this.classLoader = Objects.requireNonNull(classLoader);
+    }
+
+    @Override
+    public Optional<JsonValue> loadSchema(final URI uri) throws IOException {
+        final String requested = uri.toString();
+        final Optional<JsonValue> result;
+        if (requested.startsWith(baseUri)) {
+            final String name = resourceRoot.concat(requested.substring(baseUri.length()));
+            final Optional<JsonValue> schema = readResource(name);
+            if (schema.isPresent()) {
+                result = schema;
+            } else {
+                result = readResource(name.concat(".json"));
+            }
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    private Optional<JsonValue> readResource(final String name) throws IOException {
+        final Optional<JsonValue> result;
+        final InputStream in = classLoader.getResourceAsStream(name);
+        if (in == null) {
+            result = Optional.empty();
+        } else {
+            try (in; JsonReader reader = Json.createReader(in)) {
+                result = Optional.of(reader.readValue());
+            }
+        }
+        return result;
+    }
+}
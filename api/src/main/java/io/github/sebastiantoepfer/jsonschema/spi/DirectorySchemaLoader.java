@@ -0,0 +1,75 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.spi;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Provides the schemas below a base uri from a local directory. The path of the uri relative to the base uri is
+ * used as path of the file inside of the directory, uris which would leave the directory are ignored.
+ * It is used for references after it is registered (see {@link SchemaLoaders}).
+ */
+public final class DirectorySchemaLoader implements SchemaLoader {
+
+    private final URI baseUri;
+    private final Path directory;
+
+    public DirectorySchemaLoader(final URI baseUri, final Path directory) {
+        this.baseUri = Objects.requireNonNull(baseUri);
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public Optional<JsonValue> loadSchema(final URI uri) throws IOException {
+        final URI relative = baseUri.relativize(uri);
+        final Optional<JsonValue> result;
+        if (relative.isAbsolute() || relative.getPath() == null || relative.getPath().isEmpty()) {
+            result = Optional.empty();
+        } else {
+            result = readFile(directory.resolve(relative.getPath()).normalize());
+        }
+        return result;
+    }
+
+    private Optional<JsonValue> readFile(final Path file) throws IOException {
+        final Optional<JsonValue> result;
+        if (file.startsWith(directory) && Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file); JsonReader reader = Json.createReader(in)) {
+                result = Optional.of(reader.readValue());
+            }
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+}
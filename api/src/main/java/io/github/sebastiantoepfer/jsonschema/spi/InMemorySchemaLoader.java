@@ -0,0 +1,47 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.spi;
+
+import jakarta.json.JsonValue;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Provides the schemas from a map, e.g. schemas which are created at runtime or are part of tests. The loader must
+ * be registered with {@link SchemaLoaders#register(SchemaLoader)}.
+ */
+public final class InMemorySchemaLoader implements SchemaLoader {
+
+    private final Map<URI, JsonValue> schemas;
+
+    public InMemorySchemaLoader(final Map<URI, ? extends JsonValue> schemas) {
+        this.schemas = Map.copyOf(schemas);
+    }
+
+    @Override
+    public Optional<JsonValue> loadSchema(final URI uri) {
+        return Optional.ofNullable(schemas.get(uri));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.spi;
+
+import jakarta.json.JsonValue;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Optional;
+
+/**
+ * Loads the json of a schema document which is identified by an absolute uri, e.g. the target of a <i>$ref</i>
+ * into another document. Implementations are found with the {@link java.util.ServiceLoader}, which needs a public
+ * no-arg constructor (or a public static <i>provider</i> method), or are registered with
+ * {@link SchemaLoaders#register(SchemaLoader)}.
+ *
+ * see: https://json-schema.org/draft/2020-12/json-schema-core#name-loading-a-referenced-schema
+ */
+public interface SchemaLoader {
+    /**
+     * @param uri absolute uri of the schema document (without fragment)
+     * @return the json of the schema or empty if the uri is unknown to this loader
+     * @throws IOException if the schema is known, but can not be read
+     */
+    Optional<JsonValue> loadSchema(URI uri) throws IOException;
+}
@@ -0,0 +1,78 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.spi;
+
+import jakarta.json.JsonValue;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Loaders which are registered at runtime. This is the way to use loaders which need a configuration, like
+ * {@link ClasspathSchemaLoader}, {@link DirectorySchemaLoader} or {@link InMemorySchemaLoader}: the
+ * {@link java.util.ServiceLoader} can only create loaders with a public no-arg constructor (or a public static
+ * <i>provider</i> method). The registered loaders are asked after the loaders of the service loader, in the order of
+ * their registration.
+ */
+public final class SchemaLoaders {
+
+    private static final List<SchemaLoader> LOADERS = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param loader loader for all schemas which are referenced from now on
+     */
+    public static void register(final SchemaLoader loader) {
+        LOADERS.add(Objects.requireNonNull(loader));
+    }
+
+    /**
+     * Schemas which are already loaded by the loader stay cached.
+     *
+     * @param loader loader to remove
+     * @return true if the loader was registered
+     */
+    public static boolean unregister(final SchemaLoader loader) {
+        return LOADERS.remove(loader);
+    }
+
+    /**
+     * @param uri absolute uri of the schema document (without fragment)
+     * @return the json of the schema from the first registered loader which knows the uri
+     * @throws IOException if the schema is known, but can not be read
+     */
+    public static Optional<JsonValue> loadSchema(final URI uri) throws IOException {
+        final Iterator<SchemaLoader> it = LOADERS.iterator();
+        Optional<JsonValue> result = Optional.empty();
+        while (result.isEmpty() && it.hasNext()) {
+            result = it.next().loadSchema(uri);
+        }
+        return result;
+    }
+
+    private SchemaLoaders() {}
+}
@@ -28,6 +28,11 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.sameInstance;
 
 import io.github.sebastiantoepfer.jsonschema.FakeJsonSchemaFactory.FakeJsonSchema;
+import jakarta.json.JsonValue;
+import java.io.StringReader;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 class JsonSchemaTest {
@@ -37,4 +42,55 @@ class JsonSchemaTest {
         final JsonSchema schema = new FakeJsonSchema();
         assertThat(schema.rootSchema(), is(sameInstance(schema)));
     }
+
+    @Test
+    void should_return_indices_of_failed_instances() {
+        final JsonSchema schema = new OnlyTrueJsonSchema();
+
+        assertThat(
+            schema.failuresOf(List.of(JsonValue.TRUE, JsonValue.FALSE, JsonValue.TRUE, JsonValue.NULL)),
+            is(BitSet.valueOf(new long[] { 0b1010 }))
+        );
+        assertThat(schema.failuresOf(Stream.of(JsonValue.FALSE, JsonValue.TRUE)), is(BitSet.valueOf(new long[] { 1 })));
+    }
+
+    @Test
+    void should_return_no_indices_if_all_instances_are_valid() {
+        assertThat(new OnlyTrueJsonSchema().failuresOf(List.of(JsonValue.TRUE, JsonValue.TRUE)), is(new BitSet()));
+    }
+
+    @Test
+    void should_return_indices_of_failed_documents() {
+        assertThat(
+            new OnlyTrueJsonSchema().failuresOfDocuments(List.of("true", "false", "true")),
+            is(BitSet.valueOf(new long[] { 0b010 }))
+        );
+    }
+
+    @Test
+    void should_count_invalid_json_as_failure() {
+        assertThat(
+            new OnlyTrueJsonSchema().failuresOfDocuments(List.of("{", "true")),
+            is(BitSet.valueOf(new long[] { 1 }))
+        );
+    }
+
+    @Test
+    void should_apply_to_document() {
+        assertThat(new OnlyTrueJsonSchema().applyToDocument(new StringReader("true")), is(true));
+        assertThat(new OnlyTrueJsonSchema().applyToDocument(new StringReader("false")), is(false));
+    }
+
+    @Test
+    void should_not_apply_to_document_with_trailing_values() {
+        assertThat(new OnlyTrueJsonSchema().applyToDocument(new StringReader("true true")), is(false));
+    }
+
+    private static class OnlyTrueJsonSchema extends FakeJsonSchema {
+
+        @Override
+        public boolean applyTo(final JsonValue instance) {
+            return JsonValue.TRUE.equals(instance);
+        }
+    }
 }
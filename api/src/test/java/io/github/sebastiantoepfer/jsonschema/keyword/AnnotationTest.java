@@ -50,6 +50,11 @@ class AnnotationTest {
         assertThat(keyword.asAnnotation(), is(Matchers.sameInstance(keyword)));
     }
 
+    @Test
+    void should_have_no_memo_statistics_by_default() {
+        assertThat(new TestAnnotation().memoStatistics().isPresent(), is(false));
+    }
+
     private static class TestAnnotation implements Annotation {
 
         @Override
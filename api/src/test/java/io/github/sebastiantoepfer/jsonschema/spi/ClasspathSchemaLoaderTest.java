@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.spi;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import jakarta.json.Json;
+import java.net.URI;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ClasspathSchemaLoaderTest {
+
+    private final SchemaLoader loader = new ClasspathSchemaLoader(URI.create("https://example.com/"), "schemas");
+
+    @Test
+    void should_load_schema_from_classpath() throws Exception {
+        assertThat(
+            loader.loadSchema(URI.create("https://example.com/integer.json")),
+            is(Optional.of(Json.createObjectBuilder().add("type", "integer").build()))
+        );
+    }
+
+    @Test
+    void should_load_schema_from_classpath_without_suffix() throws Exception {
+        assertThat(
+            loader.loadSchema(URI.create("https://example.com/integer")),
+            is(Optional.of(Json.createObjectBuilder().add("type", "integer").build()))
+        );
+    }
+
+    @Test
+    void should_return_empty_for_unknown_resource() throws Exception {
+        assertThat(loader.loadSchema(URI.create("https://example.com/string.json")), is(Optional.empty()));
+    }
+
+    @Test
+    void should_return_empty_for_uri_outside_of_base() throws Exception {
+        assertThat(loader.loadSchema(URI.create("https://example.org/integer.json")), is(Optional.empty()));
+    }
+}
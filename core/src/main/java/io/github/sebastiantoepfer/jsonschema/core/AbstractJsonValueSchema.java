@@ -24,12 +24,16 @@
 package io.github.sebastiantoepfer.jsonschema.core;
 
 import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
-abstract class AbstractJsonValueSchema implements JsonSchema {
+abstract class AbstractJsonValueSchema implements JsonSchema, StreamableSchema {
 
     private final JsonValue value;
 
@@ -52,6 +56,16 @@ abstract class AbstractJsonValueSchema implements JsonSchema {
         return value.asJsonArray();
     }
 
+    @Override
+    public final boolean applyTo(final JsonParser parser) {
+        return new StreamingEvaluation(parser).applyTo(this);
+    }
+
+    @Override
+    public Optional<List<Keyword>> keywordsEvaluating(final ValueType type) {
+        return Optional.empty();
+    }
+
     @Override
     public String toString() {
         return value.toString();
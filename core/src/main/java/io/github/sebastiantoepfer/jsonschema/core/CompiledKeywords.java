@@ -0,0 +1,179 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2023 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core;
+
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+import io.github.sebastiantoepfer.ddd.common.Media;
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.Validator;
+import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
+import jakarta.json.JsonValue;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * The keywords of one schema object. They are resolved only once (on first use) and are shared by every
+ * evaluation afterwards. The compiled state is immutable, so publishing it through a volatile field is enough
+ * to make instances of this class safe for concurrent use: in the worst case two threads compile the same schema
+ * and one of the (equal) results wins.
+ * <br/>
+ * Compilation happens in two steps: first the keywords are created, then they are sorted into predicates. Keywords
+ * which depend on other keywords of the same schema look them up while they are asked for their categories, so
+ * the keywords must already be published at that point. Predicates and validator evaluate the keywords ordered by
+ * their {@link EvaluationCost} and only visit the keywords which can constrain the type of the instance
+ * ({@link InstanceTypeDispatch}), printing keeps the order of the schema.
+ */
+final class CompiledKeywords {
+
+    private final JsonSchema vocabularySource;
+    private final JsonSchema owner;
+    private volatile ResolvedKeywords resolved;
+    private volatile Evaluation evaluation;
+
+    /**
+     * @param vocabularySource schema which defines the vocabularies (and the keywords)
+     * @param owner schema to which the created keywords are bound
+     */
+    CompiledKeywords(final JsonSchema vocabularySource, final JsonSchema owner) {
+        this.vocabularySource = Objects.requireNonNull(vocabularySource);
+        this.owner = Objects.requireNonNull(owner);
+    }
+
+    <T extends Media<T>> T printOn(final T media) {
+        return resolved().keywords.stream().reduce(media, (m, k) -> k.printOn(m), (l, r) -> null);
+    }
+
+    Validator validator() {
+        return evaluation().validator;
+    }
+
+    boolean applyTo(final JsonValue instance) {
+        return evaluation().predicatesFor(instance).stream().allMatch(prdct -> prdct.test(instance));
+    }
+
+    /**
+     * @param type type of the instance
+     * @return the assertions and applicators which must be evaluated for an instance of the type
+     */
+    List<Keyword> evaluatedKeywordsFor(final JsonValue.ValueType type) {
+        return evaluation().evaluatedKeywords.get(type);
+    }
+
+    Optional<Keyword> keywordByName(final String name) {
+        return Optional.ofNullable(resolved().keywordsByName.get(name));
+    }
+
+    private ResolvedKeywords resolved() {
+        ResolvedKeywords result = resolved;
+        if (result == null) {
+            result = new ResolvedKeywords(vocabularySource, owner);
+            resolved = result;
+        }
+        return result;
+    }
+
+    private Evaluation evaluation() {
+        Evaluation result = evaluation;
+        if (result == null) {
+            result = new Evaluation(resolved());
+            evaluation = result;
+        }
+        return result;
+    }
+
+    private static final class ResolvedKeywords {
+
+        private final List<Keyword> keywords;
+        private final Map<String, Keyword> keywordsByName;
+        private final Map<Keyword, KeywordProfile> profiles;
+
+        ResolvedKeywords(final JsonSchema vocabularySource, final JsonSchema owner) {
+            final Keywords availableKeywords = new KeywordExtractor(vocabularySource).createKeywords();
+            final Map<String, Keyword> byName = new LinkedHashMap<>();
+            final Map<Keyword, KeywordProfile> profilesOfKeywords = new IdentityHashMap<>();
+            for (final String propertyName : owner.asJsonObject().keySet()) {
+                final Keyword keyword = availableKeywords.createKeywordFor(owner, propertyName);
+                byName.put(propertyName, keyword);
+                profilesOfKeywords.put(keyword, availableKeywords.profileFor(propertyName));
+            }
+            this.keywords = List.copyOf(byName.values());
+            this.keywordsByName = Map.copyOf(byName);
+            this.profiles = Collections.unmodifiableMap(profilesOfKeywords);
+        }
+
+        KeywordProfile profileOf(final Keyword keyword) {
+            return profiles.getOrDefault(keyword, KeywordProfile.UNKNOWN);
+        }
+    }
+
+    private static final class Evaluation {
+
+        private final Map<JsonValue.ValueType, List<Keyword>> evaluatedKeywords;
+        private final Map<JsonValue.ValueType, List<Predicate<JsonValue>>> predicates;
+        private final Map<JsonValue.ValueType, Validator> validators;
+        private final Validator validator;
+
+        Evaluation(final ResolvedKeywords resolved) {
+            final InstanceTypeDispatch dispatch = new InstanceTypeDispatch(
+                resolved.keywords.stream().sorted(new EvaluationCost(resolved::profileOf)).toList(),
+                resolved::profileOf
+            );
+            this.evaluatedKeywords = new EnumMap<>(JsonValue.ValueType.class);
+            this.predicates = new EnumMap<>(JsonValue.ValueType.class);
+            this.validators = new EnumMap<>(JsonValue.ValueType.class);
+            for (final JsonValue.ValueType type : JsonValue.ValueType.values()) {
+                evaluatedKeywords.put(type, evaluatedKeywordsOf(dispatch.keywordsFor(type)));
+                predicates.put(
+                    type,
+                    evaluatedKeywords.get(type).stream().map(KeywordPredicate::new).collect(toUnmodifiableList())
+                );
+                validators.put(type, new KeywordBasedValidator(dispatch.keywordsFor(type)));
+            }
+            this.validator = data -> validators.get(data.getValueType()).isValid(data);
+        }
+
+        List<Predicate<JsonValue>> predicatesFor(final JsonValue instance) {
+            return predicates.get(instance.getValueType());
+        }
+
+        private static List<Keyword> evaluatedKeywordsOf(final List<Keyword> keywords) {
+            return keywords
+                .stream()
+                .filter(
+                    k ->
+                        k.hasCategory(Keyword.KeywordCategory.ASSERTION) ||
+                        k.hasCategory(Keyword.KeywordCategory.APPLICATOR)
+                )
+                .collect(toUnmodifiableList());
+        }
+    }
+}
@@ -23,55 +23,94 @@
  */
 package io.github.sebastiantoepfer.jsonschema.core;
 
-import static java.util.stream.Collectors.collectingAndThen;
-import static java.util.stream.Collectors.toList;
-
 import io.github.sebastiantoepfer.ddd.common.Media;
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
 import io.github.sebastiantoepfer.jsonschema.JsonSubSchema;
 import io.github.sebastiantoepfer.jsonschema.Validator;
 import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonPointer;
 import jakarta.json.JsonValue;
+import java.net.URI;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 public final class DefaultJsonObjectSchema extends AbstractJsonValueSchema {
 
+    private final CompiledKeywords keywords;
+    private final SchemaIndex index;
+
     public DefaultJsonObjectSchema(final JsonObject value) {
         super(value);
+        this.keywords = new CompiledKeywords(this, this);
+        this.index = new SchemaIndex(this);
+    }
+
+    DefaultJsonObjectSchema indexed() {
+        index.build();
+        return this;
+    }
+
+    /**
+     * @param reference uri reference (e.g. the value of a <i>$ref</i>), relative to this schema
+     * @return the schema (from this schema) which is identified by the reference
+     */
+    public Optional<JsonSchema> schemaFor(final URI reference) {
+        return index.schemaFor(reference);
+    }
+
+    /**
+     * @param reference uri reference (e.g. the value of a <i>$ref</i>), relative to this schema
+     * @return the reference resolved against the base uri (<i>$id</i>) of this schema
+     */
+    public URI resolve(final URI reference) {
+        return index.resolve(reference);
+    }
+
+    /**
+     * @param location schema of this schema which contains the reference
+     * @param reference uri reference (e.g. the value of a <i>$ref</i>), relative to the nearest <i>$id</i> of the
+     * location
+     * @return the schema (from this schema) which is identified by the reference
+     */
+    public Optional<JsonSchema> schemaFor(final JsonSchema location, final URI reference) {
+        return index.schemaFor(location, reference);
+    }
+
+    /**
+     * @param location schema of this schema which contains the reference
+     * @param reference uri reference (e.g. the value of a <i>$ref</i>), relative to the nearest <i>$id</i> of the
+     * location
+     * @return the reference resolved against the base uri of the location
+     */
+    public URI resolve(final JsonSchema location, final URI reference) {
+        return index.resolve(location, reference);
     }
 
     @Override
     public <T extends Media<T>> T printOn(final T media) {
-        return keywords().reduce(media, (m, k) -> k.printOn(m), (l, r) -> null);
+        return keywords.printOn(media);
     }
 
     @Override
     public Validator validator() {
-        return keywords().collect(collectingAndThen(toList(), KeywordBasedValidator::new));
+        return keywords.validator();
     }
 
     @Override
     public boolean applyTo(final JsonValue instance) {
-        return keywords()
-            .map(KeywordPredicate::new)
-            .allMatch(prdct -> prdct.test(instance));
+        return keywords.applyTo(instance);
     }
 
     @Override
-    public Optional<Keyword> keywordByName(final String name) {
-        return keywords()
-            .filter(k -> k.hasName(name))
-            .findFirst();
+    public Optional<List<Keyword>> keywordsEvaluating(final ValueType type) {
+        return Optional.of(keywords.evaluatedKeywordsFor(type));
     }
 
-    private Stream<Keyword> keywords() {
-        final Keywords keywords = new KeywordExtractor(this).createKeywords();
-        return asJsonObject()
-            .keySet()
-            .stream()
-            .map(propertyName -> keywords.createKeywordFor(this, propertyName));
+    @Override
+    public Optional<Keyword> keywordByName(final String name) {
+        return keywords.keywordByName(name);
     }
 
     @Override
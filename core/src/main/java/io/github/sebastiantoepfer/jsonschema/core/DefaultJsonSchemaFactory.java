@@ -32,7 +32,9 @@ public final class DefaultJsonSchemaFactory implements JsonSchemaFactory {
 
     @Override
     public JsonSchema create(final JsonValue schema) {
-        return tryToCreateSchemaFrom(schema).orElseThrow(IllegalArgumentException::new);
+        return tryToCreateSchemaFrom(schema)
+            .map(DefaultJsonSchemaFactory::indexed)
+            .orElseThrow(IllegalArgumentException::new);
     }
 
     Optional<JsonSchema> tryToCreateSchemaFrom(final JsonValue schema) {
@@ -50,4 +52,14 @@ public final class DefaultJsonSchemaFactory implements JsonSchemaFactory {
         }
         return Optional.ofNullable(result);
     }
+
+    private static JsonSchema indexed(final JsonSchema schema) {
+        final JsonSchema result;
+        if (schema instanceof DefaultJsonObjectSchema objectSchema) {
+            result = objectSchema.indexed();
+        } else {
+            result = schema;
+        }
+        return result;
+    }
 }
@@ -23,9 +23,6 @@
  */
 package io.github.sebastiantoepfer.jsonschema.core;
 
-import static java.util.stream.Collectors.collectingAndThen;
-import static java.util.stream.Collectors.toList;
-
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.JsonSchema;
 import io.github.sebastiantoepfer.jsonschema.JsonSubSchema;
@@ -34,19 +31,22 @@ import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonPointer;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-final class DefaultJsonSubSchema implements JsonSubSchema {
+final class DefaultJsonSubSchema implements JsonSubSchema, StreamableSchema {
 
     private final JsonSchema owner;
     private final JsonSchema schema;
+    private final CompiledKeywords keywords;
 
     DefaultJsonSubSchema(final JsonSchema owner, final JsonSchema schema) {
         this.owner = Objects.requireNonNull(owner);
         this.schema = Objects.requireNonNull(schema);
+        this.keywords = new CompiledKeywords(schema, this);
     }
 
     @Override
@@ -61,26 +61,38 @@ final class DefaultJsonSubSchema implements JsonSubSchema {
 
     @Override
     public boolean applyTo(final JsonValue instance) {
-        final Stream<Predicate<JsonValue>> predicates;
+        final boolean result;
+        if (isJsonObject()) {
+            result = keywords.applyTo(instance);
+        } else {
+            result = schema.applyTo(instance);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean applyTo(final JsonParser parser) {
+        return new StreamingEvaluation(parser).applyTo(this);
+    }
+
+    @Override
+    public Optional<List<Keyword>> keywordsEvaluating(final ValueType type) {
+        final Optional<List<Keyword>> result;
         if (isJsonObject()) {
-            predicates = keywords()
-                .filter(
-                    k ->
-                        k.hasCategory(Keyword.KeywordCategory.ASSERTION) ||
-                        k.hasCategory(Keyword.KeywordCategory.APPLICATOR)
-                )
-                .map(KeywordPredicate::new);
+            result = Optional.of(keywords.evaluatedKeywordsFor(type));
+        } else if (schema instanceof StreamableSchema streamable) {
+            result = streamable.keywordsEvaluating(type);
         } else {
-            predicates = Stream.of(schema::applyTo);
+            result = Optional.empty();
         }
-        return predicates.allMatch(prdct -> prdct.test(instance));
+        return result;
     }
 
     @Override
     public Validator validator() {
         final Validator result;
         if (isJsonObject()) {
-            result = keywords().collect(collectingAndThen(toList(), KeywordBasedValidator::new));
+            result = keywords.validator();
         } else {
             result = schema.validator();
         }
@@ -89,21 +101,11 @@ final class DefaultJsonSubSchema implements JsonSubSchema {
 
     @Override
     public Optional<Keyword> keywordByName(final String name) {
-        return keywords()
-            .filter(keyword -> keyword.hasName(name))
-            .findAny();
-    }
-
-    private Stream<Keyword> keywords() {
-        final Stream<Keyword> result;
+        final Optional<Keyword> result;
         if (isJsonObject()) {
-            final Keywords keywords = new KeywordExtractor(schema).createKeywords();
-            result = asJsonObject()
-                .keySet()
-                .stream()
-                .map(propertyName -> keywords.createKeywordFor(this, propertyName));
+            result = keywords.keywordByName(name);
         } else {
-            result = Stream.empty();
+            result = Optional.empty();
         }
         return result;
     }
@@ -0,0 +1,66 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
+import jakarta.json.JsonValue;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Dispatch table of the keywords of a schema by the type of the instance. Keywords which only constrain one type
+ * of instance (like maxLength for strings or properties for objects) are valid for every other type, so they are
+ * left out for the other types. Keywords which apply to every type (like const, enum, $ref or allOf) are part of
+ * every entry. The types a keyword constrains are taken from its {@link KeywordProfile}. The order of the given
+ * keywords is kept.
+ */
+final class InstanceTypeDispatch {
+
+    private final Map<JsonValue.ValueType, List<Keyword>> keywords;
+
+    InstanceTypeDispatch(final List<Keyword> keywords, final Function<Keyword, KeywordProfile> profiles) {
+        this.keywords = Collections.unmodifiableMap(
+            Arrays.stream(JsonValue.ValueType.values())
+                .collect(
+                    toMap(
+                        identity(),
+                        type -> keywords.stream().filter(k -> profiles.apply(k).constrains(type)).toList(),
+                        (first, second) -> first,
+                        () -> new EnumMap<>(JsonValue.ValueType.class)
+                    )
+                )
+        );
+    }
+
+    List<Keyword> keywordsFor(final JsonValue.ValueType type) {
+        return keywords.get(type);
+    }
+}
@@ -23,15 +23,30 @@
  */
 package io.github.sebastiantoepfer.jsonschema.core;
 
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
 import io.github.sebastiantoepfer.jsonschema.JsonSchema;
 import io.github.sebastiantoepfer.jsonschema.core.vocab.core.VocabularyKeywordType;
+import io.github.sebastiantoepfer.jsonschema.vocabulary.spi.VocabularyDefinitions;
+import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 final class KeywordExtractor {
 
+    private static final VocabularyKeywordType VOCABULARY_KEYWORD_TYPE = new VocabularyKeywordType();
+    private static final Keywords DEFAULT_KEYWORDS = new Keywords(List.of());
+    /**
+     * resolved keywords by $vocabulary declaration (vocabulary id -&gt; required). a dialect is resolved only once
+     * per jvm and shared by all schemas which declare it.
+     */
+    private static final Map<Map<URI, Boolean>, Keywords> KEYWORDS_BY_VOCABULARIES = new ConcurrentHashMap<>();
+
     private final JsonSchema schema;
 
     public KeywordExtractor(final JsonSchema schema) {
@@ -40,17 +55,34 @@ final class KeywordExtractor {
 
     public Keywords createKeywords() {
         final Keywords result;
-        final VocabularyKeywordType keywordType = new VocabularyKeywordType();
         if (
-            schema.getValueType() == JsonValue.ValueType.OBJECT && schema.asJsonObject().containsKey(keywordType.name())
+            schema.getValueType() == JsonValue.ValueType.OBJECT &&
+            schema.asJsonObject().containsKey(VOCABULARY_KEYWORD_TYPE.name())
         ) {
-            result = keywordType
-                .createKeyword(schema)
-                .definitions()
-                .collect(Collectors.collectingAndThen(Collectors.toList(), Keywords::new));
+            final VocabularyDefinitions definitions = VOCABULARY_KEYWORD_TYPE.createKeyword(schema);
+            final Map<URI, Boolean> key = canonical(
+                schema.asJsonObject().getJsonObject(VOCABULARY_KEYWORD_TYPE.name())
+            );
+            final Keywords known = KEYWORDS_BY_VOCABULARIES.get(key);
+            if (known == null) {
+                //no computeIfAbsent: loading a vocabulary may need to create keywords by itself
+                final Keywords created = definitions
+                    .definitions()
+                    .collect(Collectors.collectingAndThen(Collectors.toList(), Keywords::new));
+                result = Objects.requireNonNullElse(KEYWORDS_BY_VOCABULARIES.putIfAbsent(key, created), created);
+            } else {
+                result = known;
+            }
         } else {
-            result = new Keywords(List.of());
+            result = DEFAULT_KEYWORDS;
         }
         return result;
     }
+
+    private static Map<URI, Boolean> canonical(final JsonObject vocabularies) {
+        return vocabularies
+            .entrySet()
+            .stream()
+            .collect(toUnmodifiableMap(e -> URI.create(e.getKey()), e -> JsonValue.TRUE.equals(e.getValue())));
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core;
+
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+import jakarta.json.JsonValue;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Estimated evaluation cost of a keyword and the types of instances it can reject. The profiles are only known for
+ * the keywords of the 2020-12 vocabularies, a keyword of an other vocabulary has the unknown profile even if it has
+ * the same name as a keyword of the dialect (see {@link Keywords#profileFor(String)}).
+ * <br/>
+ * Costs: cheap type and size checks first, then const and enum, then regular expressions and format, then the
+ * applicators with the subschemas.
+ */
+final class KeywordProfile {
+
+    private static final Set<JsonValue.ValueType> ALL = EnumSet.allOf(JsonValue.ValueType.class);
+    private static final Set<JsonValue.ValueType> STRING = EnumSet.of(JsonValue.ValueType.STRING);
+    private static final Set<JsonValue.ValueType> NUMBER = EnumSet.of(JsonValue.ValueType.NUMBER);
+    private static final Set<JsonValue.ValueType> OBJECT = EnumSet.of(JsonValue.ValueType.OBJECT);
+    private static final Set<JsonValue.ValueType> ARRAY = EnumSet.of(JsonValue.ValueType.ARRAY);
+    static final KeywordProfile UNKNOWN = new KeywordProfile(3, ALL);
+
+    //index is the cost
+    private static final List<Map<String, Set<JsonValue.ValueType>>> KEYWORDS_BY_COST = List.of(
+        Map.ofEntries(
+            Map.entry("type", ALL),
+            Map.entry("required", OBJECT),
+            Map.entry("minLength", STRING),
+            Map.entry("maxLength", STRING),
+            Map.entry("minItems", ARRAY),
+            Map.entry("maxItems", ARRAY),
+            Map.entry("minProperties", OBJECT),
+            Map.entry("maxProperties", OBJECT),
+            Map.entry("minimum", NUMBER),
+            Map.entry("maximum", NUMBER),
+            Map.entry("exclusiveMinimum", NUMBER),
+            Map.entry("exclusiveMaximum", NUMBER),
+            Map.entry("multipleOf", NUMBER),
+            Map.entry("dependentRequired", OBJECT)
+        ),
+        Map.of("const", ALL, "enum", ALL),
+        Map.of("pattern", STRING, "format", ALL),
+        Map.of("uniqueItems", ARRAY, "minContains", ARRAY, "maxContains", ARRAY),
+        Map.of(
+            "properties",
+            OBJECT,
+            "additionalProperties",
+            OBJECT,
+            "patternProperties",
+            OBJECT,
+            "propertyNames",
+            OBJECT,
+            "prefixItems",
+            ARRAY,
+            "items",
+            ARRAY,
+            "contains",
+            ARRAY,
+            "dependentSchemas",
+            OBJECT
+        ),
+        Map.ofEntries(
+            Map.entry("not", ALL),
+            Map.entry("if", ALL),
+            Map.entry("then", ALL),
+            Map.entry("else", ALL),
+            Map.entry("allOf", ALL),
+            Map.entry("anyOf", ALL),
+            Map.entry("oneOf", ALL),
+            Map.entry("$ref", ALL),
+            Map.entry("$dynamicRef", ALL),
+            Map.entry("unevaluatedItems", ARRAY),
+            Map.entry("unevaluatedProperties", OBJECT)
+        )
+    );
+    private static final Map<String, KeywordProfile> PROFILES = IntStream.range(0, KEYWORDS_BY_COST.size())
+        .boxed()
+        .flatMap(cost ->
+            KEYWORDS_BY_COST.get(cost)
+                .entrySet()
+                .stream()
+                .map(e -> Map.entry(e.getKey(), new KeywordProfile(cost, e.getValue())))
+        )
+        .collect(toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+
+    private final int cost;
+    private final Set<JsonValue.ValueType> constrainedTypes;
+
+    private KeywordProfile(final int cost, final Set<JsonValue.ValueType> constrainedTypes) {
+        this.cost = cost;
+        this.constrainedTypes = Objects.requireNonNull(constrainedTypes);
+    }
+
+    /**
+     * @param name name of a keyword of the 2020-12 vocabularies
+     * @return the profile of the keyword, the unknown profile if the dialect has no keyword with this name
+     */
+    static KeywordProfile ofDialectKeyword(final String name) {
+        return Optional.ofNullable(PROFILES.get(name)).orElse(UNKNOWN);
+    }
+
+    int cost() {
+        return cost;
+    }
+
+    /**
+     * @return false if the keyword is valid for every instance of the type (like maxLength for numbers)
+     */
+    boolean constrains(final JsonValue.ValueType type) {
+        return constrainedTypes.contains(type);
+    }
+}
@@ -36,6 +36,7 @@ import io.github.sebastiantoepfer.jsonschema.core.vocab.meta.MetaDataVocabulary;
 import io.github.sebastiantoepfer.jsonschema.core.vocab.unevaluated.UnevaluatedVocabulary;
 import io.github.sebastiantoepfer.jsonschema.core.vocab.validation.ValidationVocabulary;
 import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
+import io.github.sebastiantoepfer.jsonschema.keyword.KeywordType;
 import io.github.sebastiantoepfer.jsonschema.vocabulary.spi.VocabularyDefinition;
 import jakarta.json.spi.JsonProvider;
 import java.net.URI;
@@ -44,12 +45,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 final class Keywords {
 
+    private static final String DIALECT_VOCABS = "https://json-schema.org/draft/2020-12/vocab/";
     private static final Map<URI, Vocabulary> MANDANTORY_VOCABS;
     private static final Collection<Vocabulary> DEFAULT_VOCABS;
 
@@ -69,6 +72,7 @@ final class Keywords {
     }
 
     private final Collection<Vocabulary> vocabularies;
+    private final Map<String, ResolvedKeywordType> keywordTypes;
 
     public Keywords(final Collection<VocabularyDefinition> vocabDefs) {
         if (
@@ -89,15 +93,71 @@ final class Keywords {
                     (first, last) -> null //pitest otherwise see mutants here :(
                 )
             );
+        keywordTypes = new ConcurrentHashMap<>();
     }
 
     public Keyword createKeywordFor(final JsonSchema schema, final String propertyName) {
+        return keywordTypeFor(propertyName).keywordType.createKeyword(schema);
+    }
+
+    /**
+     * @param name name of a keyword
+     * @return the profile of the keyword, which is only known if the keyword comes from a vocabulary of the 2020-12
+     * dialect (a keyword of an other vocabulary with the same name is unknown)
+     */
+    KeywordProfile profileFor(final String name) {
+        final KeywordProfile result;
+        if (keywordTypeFor(name).ofDialect) {
+            result = KeywordProfile.ofDialectKeyword(name);
+        } else {
+            result = KeywordProfile.UNKNOWN;
+        }
+        return result;
+    }
+
+    private ResolvedKeywordType keywordTypeFor(final String name) {
+        final ResolvedKeywordType keywordType = keywordTypes.get(name);
+        final ResolvedKeywordType result;
+        if (keywordType == null) {
+            result = cacheIfKnown(name, findKeywordTypeByName(name));
+        } else {
+            result = keywordType;
+        }
+        return result;
+    }
+
+    /**
+     * Only the keyword types defined by a vocabulary are cached. The basic vocabulary answers every other name with
+     * an unknown keyword, caching those would let the cache grow with every property name of every schema.
+     */
+    private ResolvedKeywordType cacheIfKnown(final String name, final ResolvedKeywordType keywordType) {
+        if (!(keywordType.keywordType instanceof UnknowKeywordType)) {
+            keywordTypes.putIfAbsent(name, keywordType);
+        }
+        return keywordType;
+    }
+
+    private ResolvedKeywordType findKeywordTypeByName(final String name) {
         return vocabularies
             .stream()
-            .map(vocab -> vocab.findKeywordTypeByName(propertyName))
+            .map(vocab ->
+                vocab
+                    .findKeywordTypeByName(name)
+                    .map(type -> new ResolvedKeywordType(type, vocab.id().toString().startsWith(DIALECT_VOCABS)))
+            )
             .flatMap(Optional::stream)
             .findFirst()
-            .map(keywordType -> keywordType.createKeyword(schema))
             .orElseThrow();
     }
+
+    private static final class ResolvedKeywordType {
+
+        private final KeywordType keywordType;
+        private final boolean ofDialect;
+
+        ResolvedKeywordType(final KeywordType keywordType, final boolean ofDialect) {
+            this.keywordType = keywordType;
+            this.ofDialect = ofDialect;
+        }
+    }
 }
@@ -0,0 +1,244 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core;
+
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the schemas which can be referenced inside of a root schema. The identifiers (<i>$id</i> and
+ * <i>$anchor</i>) are collected once from the json, a referenced schema is created on its first lookup and the
+ * same instance is returned for every further lookup.
+ *
+ * see: https://json-schema.org/draft/2020-12/json-schema-core#name-schema-references
+ */
+final class SchemaIndex {
+
+    private static final Set<String> NON_SCHEMA_KEYWORDS = Set.of("const", "enum", "default", "examples");
+    //keywords whose value maps names (which are not keywords) to schemas
+    private static final Set<String> SCHEMA_MAP_KEYWORDS = Set.of(
+        "$defs",
+        "definitions",
+        "properties",
+        "patternProperties",
+        "dependentSchemas"
+    );
+    private final JsonSchema root;
+    private volatile Index index;
+
+    SchemaIndex(final JsonSchema root) {
+        this.root = Objects.requireNonNull(root);
+    }
+
+    SchemaIndex build() {
+        index();
+        return this;
+    }
+
+    Optional<JsonSchema> schemaFor(final URI reference) {
+        return index().pointerFor(index().base, reference).flatMap(index()::schemaAt);
+    }
+
+    /**
+     * @param location schema (of the root schema) which contains the reference
+     * @param reference uri reference, relative to the resource (<i>$id</i>) which contains the location
+     * @return the schema which is identified by the reference
+     */
+    Optional<JsonSchema> schemaFor(final JsonSchema location, final URI reference) {
+        return index().pointerFor(index().baseOf(location), reference).flatMap(index()::schemaAt);
+    }
+
+    URI resolve(final URI reference) {
+        return index().base.resolve(reference);
+    }
+
+    URI resolve(final JsonSchema location, final URI reference) {
+        return index().baseOf(location).resolve(reference);
+    }
+
+    private Index index() {
+        Index result = index;
+        if (result == null) {
+            result = new Index(root);
+            index = result;
+        }
+        return result;
+    }
+
+    private static final class Index {
+
+        private final JsonSchema root;
+        private final URI base;
+        private final Map<URI, String> pointers;
+        //base uri of the schema objects which are part of an embedded resource, all others have the root base
+        private final Map<JsonValue, URI> bases;
+        private final Map<String, Optional<JsonSchema>> schemas;
+
+        Index(final JsonSchema root) {
+            this.root = root;
+            this.base = idOf(URI.create(""), root.asJsonObject()).orElse(URI.create(""));
+            final Map<URI, String> identifiers = new HashMap<>();
+            final Map<JsonValue, URI> resourceBases = new IdentityHashMap<>();
+            identifiers.put(base, "");
+            new Collector(base, identifiers, resourceBases).collectSchema(base, "", root.asJsonObject());
+            this.pointers = Map.copyOf(identifiers);
+            this.bases = Collections.unmodifiableMap(resourceBases);
+            this.schemas = new ConcurrentHashMap<>();
+        }
+
+        URI baseOf(final JsonSchema location) {
+            final URI result;
+            if (location.getValueType() == JsonValue.ValueType.OBJECT) {
+                result = bases.getOrDefault(location.asJsonObject(), base);
+            } else {
+                result = base;
+            }
+            return result;
+        }
+
+        Optional<String> pointerFor(final URI locationBase, final URI reference) {
+            final URI target = locationBase.resolve(reference);
+            final String fragment = target.getFragment();
+            final Optional<String> result;
+            if (fragment == null || fragment.isEmpty() || fragment.startsWith("/")) {
+                result = Optional.ofNullable(pointers.get(withoutFragment(target))).map(pointer ->
+                    pointer.concat(Objects.requireNonNullElse(fragment, ""))
+                );
+            } else {
+                result = Optional.ofNullable(pointers.get(target));
+            }
+            return result;
+        }
+
+        Optional<JsonSchema> schemaAt(final String pointer) {
+            return schemas.computeIfAbsent(pointer, this::createSchemaAt);
+        }
+
+        private Optional<JsonSchema> createSchemaAt(final String pointer) {
+            final Optional<JsonSchema> result;
+            if (pointer.isEmpty()) {
+                result = Optional.of(root);
+            } else {
+                result = root.subSchema(Json.createPointer(pointer)).map(JsonSchema.class::cast);
+            }
+            return result;
+        }
+
+        private static Optional<URI> idOf(final URI base, final JsonObject object) {
+            Optional<URI> result;
+            if (object.get("$id") instanceof JsonString id) {
+                try {
+                    result = Optional.of(withoutFragment(base.resolve(new URI(id.getString()))));
+                } catch (URISyntaxException e) {
+                    result = Optional.empty();
+                }
+            } else {
+                result = Optional.empty();
+            }
+            return result;
+        }
+
+        private static URI withoutFragment(final URI uri) {
+            final String value = uri.toString();
+            final int fragmentStart = value.indexOf('#');
+            final URI result;
+            if (fragmentStart < 0) {
+                result = uri;
+            } else {
+                result = URI.create(value.substring(0, fragmentStart));
+            }
+            return result;
+        }
+
+        private static String escape(final String name) {
+            return name.replace("~", "~0").replace("/", "~1");
+        }
+
+        /**
+         * Walks the schema json: identifiers are only taken from schema objects, the members of keywords like
+         * <i>properties</i> are names and not keywords.
+         */
+        private static final class Collector {
+
+            private final URI rootBase;
+            private final Map<URI, String> identifiers;
+            private final Map<JsonValue, URI> bases;
+
+            Collector(final URI rootBase, final Map<URI, String> identifiers, final Map<JsonValue, URI> bases) {
+                this.rootBase = rootBase;
+                this.identifiers = identifiers;
+                this.bases = bases;
+            }
+
+            void collectSchema(final URI base, final String pointer, final JsonValue value) {
+                if (value.getValueType() == JsonValue.ValueType.OBJECT) {
+                    final JsonObject object = value.asJsonObject();
+                    final URI resource = idOf(base, object).orElse(base);
+                    identifiers.putIfAbsent(resource, pointer);
+                    if (!resource.equals(rootBase)) {
+                        bases.put(object, resource);
+                    }
+                    if (object.get("$anchor") instanceof JsonString anchor) {
+                        identifiers.putIfAbsent(URI.create(resource + "#" + anchor.getString()), pointer);
+                    }
+                    for (final Map.Entry<String, JsonValue> keyword : object.entrySet()) {
+                        final String keywordPointer = pointer + "/" + escape(keyword.getKey());
+                        if (SCHEMA_MAP_KEYWORDS.contains(keyword.getKey())) {
+                            collectSchemaMap(resource, keywordPointer, keyword.getValue());
+                        } else if (!NON_SCHEMA_KEYWORDS.contains(keyword.getKey())) {
+                            collectSchema(resource, keywordPointer, keyword.getValue());
+                        }
+                    }
+                } else if (value.getValueType() == JsonValue.ValueType.ARRAY) {
+                    final JsonArray array = value.asJsonArray();
+                    for (int i = 0; i < array.size(); i++) {
+                        collectSchema(base, pointer + "/" + i, array.get(i));
+                    }
+                }
+            }
+
+            private void collectSchemaMap(final URI base, final String pointer, final JsonValue value) {
+                if (value.getValueType() == JsonValue.ValueType.OBJECT) {
+                    for (final Map.Entry<String, JsonValue> member : value.asJsonObject().entrySet()) {
+                        collectSchema(base, pointer + "/" + escape(member.getKey()), member.getValue());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core;
+
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.StreamableKeyword;
+import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies a schema to a value while the value is read from a parser. Objects and arrays are not materialised if
+ * all keywords which evaluate them are {@link StreamableKeyword}s: the keywords see the members one after another
+ * and the value of a member is streamed into the schema which is responsible for it. Only the values of members
+ * which are checked by more than one schema and the instances of schemas with keywords which need the whole
+ * instance (like uniqueItems or $ref) are read as {@link JsonValue}.
+ * <br/>
+ * Whether a value must be read is decided for every value (path) by the schemas which apply to it: values whose
+ * schemas have no keyword evaluating the type of the value (e.g. true or {}) are skipped: their events are read
+ * (so the parser still checks their syntax), but they are never built. Such schemas are also not counted if several schemas apply to a value, so a
+ * value of a member which is additionally described by an unconstrained schema is still streamed.
+ * <br/>
+ * The evaluation stops at the first member which makes the value invalid, without reading the rest.
+ */
+final class StreamingEvaluation {
+
+    private final JsonParser parser;
+    //number of objects and arrays the parser is in
+    private int depth;
+
+    StreamingEvaluation(final JsonParser parser) {
+        this.parser = Objects.requireNonNull(parser);
+    }
+
+    /**
+     * @param schema schema to apply to the next value of the parser
+     * @return true if the schema applies to the value
+     */
+    boolean applyTo(final JsonSchema schema) {
+        return applyTo(schema, next());
+    }
+
+    private boolean applyTo(final JsonSchema schema, final JsonParser.Event event) {
+        final boolean result;
+        if (schema.getValueType() == JsonValue.ValueType.FALSE) {
+            result = false;
+        } else if (isUnconstrained(schema, event)) {
+            skip(event);
+            result = true;
+        } else if (event == JsonParser.Event.START_OBJECT) {
+            result = applyToContainer(schema, JsonValue.ValueType.OBJECT, StreamableKeyword::startObject, event);
+        } else if (event == JsonParser.Event.START_ARRAY) {
+            result = applyToContainer(schema, JsonValue.ValueType.ARRAY, StreamableKeyword::startArray, event);
+        } else {
+            result = schema.applyTo(parser.getValue());
+        }
+        return result;
+    }
+
+    private <M> boolean applyToContainer(
+        final JsonSchema schema,
+        final JsonValue.ValueType type,
+        final Function<StreamableKeyword, Optional<MemberEvaluation<M>>> start,
+        final JsonParser.Event event
+    ) {
+        final Optional<List<MemberEvaluation<M>>> evaluations = evaluationsOf(schema, type, start);
+        final boolean result;
+        if (evaluations.isEmpty()) {
+            result = schema.applyTo(materialise(event));
+        } else if (type == JsonValue.ValueType.OBJECT) {
+            result = applyToProperties(evaluations.get().stream().map(this::<String>cast).toList());
+        } else {
+            result = applyToItems(evaluations.get().stream().map(this::<Integer>cast).toList());
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <M> MemberEvaluation<M> cast(final MemberEvaluation<?> evaluation) {
+        return (MemberEvaluation<M>) evaluation;
+    }
+
+    private static <M> Optional<List<MemberEvaluation<M>>> evaluationsOf(
+        final JsonSchema schema,
+        final JsonValue.ValueType type,
+        final Function<StreamableKeyword, Optional<MemberEvaluation<M>>> start
+    ) {
+        Optional<List<MemberEvaluation<M>>> result = Optional.empty();
+        if (schema instanceof StreamableSchema streamable) {
+            final Optional<List<Keyword>> keywords = streamable.keywordsEvaluating(type);
+            if (keywords.isPresent()) {
+                final List<Optional<MemberEvaluation<M>>> evaluations = keywords
+                    .get()
+                    .stream()
+                    .map(keyword -> evaluationOf(keyword, start))
+                    .toList();
+                if (evaluations.stream().allMatch(Optional::isPresent)) {
+                    result = Optional.of(evaluations.stream().map(Optional::get).toList());
+                }
+            }
+        }
+        return result;
+    }
+
+    private static <M> Optional<MemberEvaluation<M>> evaluationOf(
+        final Keyword keyword,
+        final Function<StreamableKeyword, Optional<MemberEvaluation<M>>> start
+    ) {
+        //the keyword could be a relationship, the implementation is behind the category view
+        final Object implementation;
+        if (keyword.hasCategory(Keyword.KeywordCategory.ASSERTION)) {
+            implementation = keyword.asAssertion();
+        } else {
+            implementation = keyword.asApplicator();
+        }
+        final Optional<MemberEvaluation<M>> result;
+        if (implementation instanceof StreamableKeyword streamable) {
+            result = start.apply(streamable);
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    private boolean applyToProperties(final List<MemberEvaluation<String>> evaluations) {
+        boolean result = true;
+        boolean end = false;
+        int members = 0;
+        while (result && !end) {
+            if (next() == JsonParser.Event.END_OBJECT) {
+                end = true;
+            } else {
+                final String name = parser.getString();
+                members++;
+                result = applyToMember(evaluations, name, next());
+            }
+        }
+        return result && isValid(evaluations, members);
+    }
+
+    private boolean applyToItems(final List<MemberEvaluation<Integer>> evaluations) {
+        boolean result = true;
+        boolean end = false;
+        int index = 0;
+        while (result && !end) {
+            final JsonParser.Event event = next();
+            if (event == JsonParser.Event.END_ARRAY) {
+                end = true;
+            } else {
+                result = applyToMember(evaluations, index++, event);
+            }
+        }
+        return result && isValid(evaluations, index);
+    }
+
+    private static boolean isValid(final List<? extends MemberEvaluation<?>> evaluations, final int members) {
+        return evaluations.stream().allMatch(evaluation -> evaluation.isValid(members));
+    }
+
+    private <M> boolean applyToMember(
+        final List<MemberEvaluation<M>> evaluations,
+        final M member,
+        final JsonParser.Event event
+    ) {
+        boolean result = evaluations.stream().allMatch(evaluation -> evaluation.memberStarts(member));
+        if (result) {
+            final Map<Boolean, List<Map.Entry<MemberEvaluation<M>, JsonSchema>>> byConstraint = evaluations
+                .stream()
+                .flatMap(evaluation -> evaluation.schemasFor(member).stream().map(s -> Map.entry(evaluation, s)))
+                .collect(Collectors.partitioningBy(a -> isUnconstrained(a.getValue(), event)));
+            //unconstrained schemas apply to any value of the type, the value needs not to be read for them
+            result =
+                byConstraint
+                    .get(true)
+                    .stream()
+                    .allMatch(a -> a.getKey().schemaApplied(member, a.getValue(), true));
+            final List<Map.Entry<MemberEvaluation<M>, JsonSchema>> applications = byConstraint.get(false);
+            if (!result || applications.isEmpty()) {
+                skip(event);
+            } else if (applications.size() == 1) {
+                result = streamInto(applications.get(0).getKey(), member, applications.get(0).getValue(), event);
+            } else {
+                final JsonValue value = materialise(event);
+                result =
+                    applications
+                        .stream()
+                        .allMatch(a -> a.getKey().schemaApplied(member, a.getValue(), a.getValue().applyTo(value)));
+            }
+        }
+        return result;
+    }
+
+    private <M> boolean streamInto(
+        final MemberEvaluation<M> evaluation,
+        final M member,
+        final JsonSchema schema,
+        final JsonParser.Event event
+    ) {
+        final int memberDepth = depth - (isStart(event) ? 1 : 0);
+        final boolean applies = applyTo(schema, event);
+        final boolean result = evaluation.schemaApplied(member, schema, applies);
+        if (result && !applies) {
+            //the evaluation of the value stopped early, but the container is still valid (e.g. contains)
+            skipTo(memberDepth);
+        }
+        return result;
+    }
+
+    /**
+     * @return true if the schema has no keyword which evaluates values of the type the event starts
+     */
+    private static boolean isUnconstrained(final JsonSchema schema, final JsonParser.Event event) {
+        final boolean result;
+        if (schema instanceof StreamableSchema streamable) {
+            result = streamable.keywordsEvaluating(typeOf(event)).map(List::isEmpty).orElse(false);
+        } else {
+            result = false;
+        }
+        return result;
+    }
+
+    private static JsonValue.ValueType typeOf(final JsonParser.Event event) {
+        return switch (event) {
+            case START_OBJECT -> JsonValue.ValueType.OBJECT;
+            case START_ARRAY -> JsonValue.ValueType.ARRAY;
+            case VALUE_STRING -> JsonValue.ValueType.STRING;
+            case VALUE_NUMBER -> JsonValue.ValueType.NUMBER;
+            case VALUE_TRUE -> JsonValue.ValueType.TRUE;
+            case VALUE_FALSE -> JsonValue.ValueType.FALSE;
+            case VALUE_NULL -> JsonValue.ValueType.NULL;
+            default -> throw new IllegalStateException("no value starts with " + event);
+        };
+    }
+
+    private JsonParser.Event next() {
+        final JsonParser.Event result = parser.next();
+        if (isStart(result)) {
+            depth++;
+        } else if (result == JsonParser.Event.END_OBJECT || result == JsonParser.Event.END_ARRAY) {
+            depth--;
+        }
+        return result;
+    }
+
+    private JsonValue materialise(final JsonParser.Event event) {
+        final JsonValue result = parser.getValue();
+        if (isStart(event)) {
+            depth--;
+        }
+        return result;
+    }
+
+    /**
+     * Reads the rest of the value event by event: skipObject and skipArray of the parser only count brackets and
+     * would accept values which are not well-formed.
+     */
+    private void skip(final JsonParser.Event event) {
+        if (isStart(event)) {
+            skipTo(depth - 1);
+        }
+    }
+
+    private void skipTo(final int targetDepth) {
+        while (depth > targetDepth) {
+            next();
+        }
+    }
+
+    private static boolean isStart(final JsonParser.Event event) {
+        return event == JsonParser.Event.START_OBJECT || event == JsonParser.Event.START_ARRAY;
+    }
+}
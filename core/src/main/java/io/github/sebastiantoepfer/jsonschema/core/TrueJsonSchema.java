@@ -30,6 +30,7 @@ import io.github.sebastiantoepfer.jsonschema.Validator;
 import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
 import jakarta.json.JsonPointer;
 import jakarta.json.JsonValue;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -49,6 +50,11 @@ final class TrueJsonSchema extends AbstractJsonValueSchema {
         return new DefaultValidator(new NoCondition<>());
     }
 
+    @Override
+    public Optional<List<Keyword>> keywordsEvaluating(final ValueType type) {
+        return Optional.of(List.of());
+    }
+
     @Override
     public Optional<Keyword> keywordByName(final String name) {
         return Optional.empty();
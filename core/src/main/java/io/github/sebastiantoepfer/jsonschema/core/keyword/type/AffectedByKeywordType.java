@@ -80,7 +80,7 @@ public final class AffectedByKeywordType implements KeywordType {
         }
 
         @Override
-        protected Keyword delegate() {
+        protected Keyword createDelegate() {
             return affectedBy
                 .stream()
                 .map(a -> a.findAffectedByKeywordIn(schema))
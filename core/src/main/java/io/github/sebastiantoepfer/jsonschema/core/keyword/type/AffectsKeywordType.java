@@ -80,7 +80,7 @@ public final class AffectsKeywordType implements KeywordType {
         }
 
         @Override
-        protected Keyword delegate() {
+        protected Keyword createDelegate() {
             //ugly ... map.entry is not the right structure ...
             final Map.Entry<List<Annotation>, Function<Keyword, Keyword>> p = affects
                 .stream()
@@ -29,13 +29,20 @@ import io.github.sebastiantoepfer.jsonschema.keyword.Applicator;
 import io.github.sebastiantoepfer.jsonschema.keyword.Assertion;
 import io.github.sebastiantoepfer.jsonschema.keyword.Identifier;
 import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
+import io.github.sebastiantoepfer.jsonschema.keyword.MemoStatistics;
 import io.github.sebastiantoepfer.jsonschema.keyword.ReservedLocation;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 
+/**
+ * Keyword whose behaviour depends on other keywords of the same schema. The delegate is created on first use (the
+ * other keywords are not available while the keywords of a schema are created) and is reused afterwards.
+ */
 abstract class KeywordRelationship implements Keyword {
 
     private final String name;
+    private volatile Keyword delegate;
 
     protected KeywordRelationship(final String name) {
         this.name = Objects.requireNonNull(name);
@@ -76,6 +83,11 @@ abstract class KeywordRelationship implements Keyword {
         return delegate().asApplicator();
     }
 
+    @Override
+    public final Optional<MemoStatistics> memoStatistics() {
+        return delegate().memoStatistics();
+    }
+
     @Override
     public final ReservedLocation asReservedLocation() {
         throw new UnsupportedOperationException();
@@ -86,5 +98,14 @@ abstract class KeywordRelationship implements Keyword {
         // Do nothing
     }
 
-    protected abstract Keyword delegate();
+    private Keyword delegate() {
+        Keyword result = delegate;
+        if (result == null) {
+            result = createDelegate();
+            delegate = result;
+        }
+        return result;
+    }
+
+    protected abstract Keyword createDelegate();
 }
@@ -0,0 +1,73 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core.keyword.type;
+
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import java.util.List;
+
+/**
+ * State of a {@link StreamableKeyword} for one object or array instance, which is fed with the members of the
+ * instance while they are read. A member is the name of a property or the index of an item.
+ *
+ * @param <M> type of the members (String for objects, Integer for arrays)
+ */
+public interface MemberEvaluation<M> {
+    /**
+     * Called when the next member is read, before its value.
+     *
+     * @param member name or index of the member
+     * @return false if the instance is invalid because of this member
+     */
+    default boolean memberStarts(final M member) {
+        return true;
+    }
+
+    /**
+     * @param member name or index of the member
+     * @return the schemas which must be applied to the value of the member
+     */
+    default List<JsonSchema> schemasFor(final M member) {
+        return List.of();
+    }
+
+    /**
+     * Called with the result of every schema returned by {@link #schemasFor(Object)}.
+     *
+     * @param member name or index of the member
+     * @param schema schema which was applied to the value of the member
+     * @param result true if the schema applies to the value
+     * @return false if the instance is invalid because of this result
+     */
+    default boolean schemaApplied(final M member, final JsonSchema schema, final boolean result) {
+        return result;
+    }
+
+    /**
+     * Called after all members were read.
+     *
+     * @param members number of members of the instance
+     * @return true if the instance is valid
+     */
+    boolean isValid(int members);
+}
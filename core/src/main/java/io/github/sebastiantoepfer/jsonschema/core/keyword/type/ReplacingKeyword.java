@@ -32,11 +32,13 @@ import io.github.sebastiantoepfer.jsonschema.keyword.Applicator;
 import io.github.sebastiantoepfer.jsonschema.keyword.Assertion;
 import io.github.sebastiantoepfer.jsonschema.keyword.Identifier;
 import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
+import io.github.sebastiantoepfer.jsonschema.keyword.MemoStatistics;
 import io.github.sebastiantoepfer.jsonschema.keyword.ReservedLocation;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 public final class ReplacingKeyword implements Keyword {
 
@@ -97,6 +99,11 @@ public final class ReplacingKeyword implements Keyword {
         }
     }
 
+    @Override
+    public Optional<MemoStatistics> memoStatistics() {
+        return keywordToReplace.memoStatistics();
+    }
+
     @Override
     public Collection<Keyword.KeywordCategory> categories() {
         return keywordToReplace.categories().stream().filter(not(categoriesToReplace::contains)).collect(toSet());
@@ -0,0 +1,47 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core.keyword.type;
+
+import java.util.Optional;
+
+/**
+ * Keyword which can evaluate an object or an array while it is read (streaming validation): instead of the whole
+ * instance it sees the members one after another and keeps only the state it needs, like counters or the names it
+ * has seen.
+ */
+public interface StreamableKeyword {
+    /**
+     * @return the evaluation of one object instance, empty if this keyword needs the whole object
+     */
+    default Optional<MemberEvaluation<String>> startObject() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return the evaluation of one array instance, empty if this keyword needs the whole array
+     */
+    default Optional<MemberEvaluation<Integer>> startArray() {
+        return Optional.empty();
+    }
+}
@@ -24,13 +24,17 @@
 package io.github.sebastiantoepfer.jsonschema.core.vocab.applicator;
 
 import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.toSet;
 
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.InstanceType;
 import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.StreamableKeyword;
 import io.github.sebastiantoepfer.jsonschema.keyword.Annotation;
 import io.github.sebastiantoepfer.jsonschema.keyword.Applicator;
 import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
+import io.github.sebastiantoepfer.jsonschema.keyword.StaticAnnotation;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonString;
@@ -40,7 +44,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * <b>additionalProperties</b> : <i>Schema</i><br/>
@@ -55,12 +60,17 @@ import java.util.stream.Stream;
  * </li>
  * </ul>
  *
+ * Object applicators which can dispatch a property to their schemas ({@link PropertySchemas}) are evaluated together
+ * with this keyword: each property of the instance is visited once and applied to the schemas of properties and
+ * patternProperties or, if none of them is responsible, to the additional properties schema.
+ *
  * source: https://www.learnjsonschema.com/2020-12/applicator/additionalproperties/<br/>
  * spec: https://json-schema.org/draft/2020-12/json-schema-core#section-10.3.2.3
  */
-final class AdditionalPropertiesKeyword implements Applicator, Annotation {
+final class AdditionalPropertiesKeyword implements Applicator, Annotation, StreamableKeyword {
 
     static final String NAME = "additionalProperties";
+    private final Collection<PropertySchemas> dispatchingAffectedBy;
     private final Collection<Annotation> affectedBy;
     private final JsonSchema additionalPropertiesSchema;
 
@@ -69,7 +79,26 @@ final class AdditionalPropertiesKeyword implements Applicator, Annotation {
         final JsonSchema additionalPropertiesSchema
     ) {
         this.additionalPropertiesSchema = additionalPropertiesSchema;
-        this.affectedBy = List.copyOf(affectedBy);
+        this.dispatchingAffectedBy = affectedBy
+            .stream()
+            .filter(PropertySchemas.class::isInstance)
+            .map(PropertySchemas.class::cast)
+            .toList();
+        this.affectedBy = affectedBy
+            .stream()
+            .filter(not(PropertySchemas.class::isInstance))
+            .filter(not(AdditionalPropertiesKeyword::isAbsentPropertiesKeyword))
+            .toList();
+    }
+
+    /**
+     * An absent properties or patternProperties is replaced by a static annotation without names.
+     */
+    private static boolean isAbsentPropertiesKeyword(final Annotation annotation) {
+        return (
+            annotation instanceof StaticAnnotation &&
+            JsonValue.EMPTY_JSON_ARRAY.equals(annotation.valueFor(JsonValue.EMPTY_JSON_OBJECT))
+        );
     }
 
     @Override
@@ -79,29 +108,78 @@ final class AdditionalPropertiesKeyword implements Applicator, Annotation {
 
     @Override
     public boolean applyTo(final JsonValue instance) {
-        return !InstanceType.OBJECT.isInstance(instance) || additionalPropertiesMatches(instance.asJsonObject());
+        return !InstanceType.OBJECT.isInstance(instance) || propertiesMatches(instance.asJsonObject());
+    }
+
+    private boolean propertiesMatches(final JsonObject instance) {
+        final Set<String> ignoredProperties = findPropertyNamesAlreadyCoveredByOthersIn(instance);
+        return instance.entrySet().stream().allMatch(property -> propertyMatches(ignoredProperties, property));
+    }
+
+    private boolean propertyMatches(
+        final Set<String> ignoredProperties,
+        final Map.Entry<String, JsonValue> property
+    ) {
+        final boolean result;
+        final List<JsonSchema> schemas = schemasFor(property.getKey());
+        if (!schemas.isEmpty()) {
+            result = schemas.stream().allMatch(schema -> schema.applyTo(property.getValue()));
+        } else if (ignoredProperties.contains(property.getKey())) {
+            result = true;
+        } else {
+            result = additionalPropertiesSchema.applyTo(property.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Only the applicators which dispatch a property by its name are known before the value is read, the other ones
+     * need the whole object.
+     */
+    @Override
+    public Optional<MemberEvaluation<String>> startObject() {
+        final Optional<MemberEvaluation<String>> result;
+        if (affectedBy.isEmpty()) {
+            result = Optional.of(new MemberDispatch<>(this::streamedSchemasFor));
+        } else {
+            result = Optional.empty();
+        }
+        return result;
     }
 
-    private boolean additionalPropertiesMatches(final JsonObject instance) {
-        return findPropertiesForValidation(instance)
-            .map(Map.Entry::getValue)
-            .allMatch(additionalPropertiesSchema::applyTo);
+    private List<JsonSchema> streamedSchemasFor(final String propertyName) {
+        final List<JsonSchema> result;
+        final List<JsonSchema> schemas = schemasFor(propertyName);
+        if (schemas.isEmpty()) {
+            result = List.of(additionalPropertiesSchema);
+        } else {
+            result = schemas;
+        }
+        return result;
     }
 
     @Override
     public JsonValue valueFor(final JsonValue instance) {
-        return findPropertiesForValidation(instance.asJsonObject())
-            .map(Map.Entry::getKey)
+        final Set<String> ignoredProperties = findPropertyNamesAlreadyCoveredByOthersIn(instance);
+        return instance
+            .asJsonObject()
+            .keySet()
+            .stream()
+            .filter(not(ignoredProperties::contains))
+            .filter(name -> schemasFor(name).isEmpty())
             .map(Json::createValue)
             .collect(JsonCollectors.toJsonArray());
     }
 
-    private Stream<Map.Entry<String, JsonValue>> findPropertiesForValidation(final JsonObject instance) {
-        final Collection<String> ignoredProperties = findPropertyNamesAlreadyConveredByOthersIn(instance);
-        return instance.entrySet().stream().filter(not(e -> ignoredProperties.contains(e.getKey())));
+    private List<JsonSchema> schemasFor(final String propertyName) {
+        return dispatchingAffectedBy
+            .stream()
+            .map(schemas -> schemas.schemasFor(propertyName))
+            .flatMap(Collection::stream)
+            .toList();
     }
 
-    private Collection<String> findPropertyNamesAlreadyConveredByOthersIn(final JsonValue instance) {
+    private Set<String> findPropertyNamesAlreadyCoveredByOthersIn(final JsonValue instance) {
         return affectedBy
             .stream()
             .map(anno -> anno.valueFor(instance))
@@ -110,7 +188,7 @@ final class AdditionalPropertiesKeyword implements Applicator, Annotation {
             .filter(JsonString.class::isInstance)
             .map(JsonString.class::cast)
             .map(JsonString::getString)
-            .toList();
+            .collect(toSet());
     }
 
     @Override
@@ -78,20 +78,33 @@ public final class ApplicatorVocabulary implements Vocabulary {
                 new SubSchemaKeywordType(ElseKeyword.NAME, ElseKeyword::new)::createKeyword
             ),
             new SubSchemaKeywordType(NotKeyword.NAME, NotKeyword::new),
-            new NamedJsonSchemaKeywordType(PropertiesKeyword.NAME, PropertiesKeyword::new),
+            //additionalProperties evaluates the properties of an object in one pass together with properties and
+            //patternProperties -> they are only annotations if additionalProperties is present
+            new AffectedByKeywordType(
+                PropertiesKeyword.NAME,
+                List.of(new ReplacedBy(AdditionalPropertiesKeyword.NAME)),
+                new NamedJsonSchemaKeywordType(PropertiesKeyword.NAME, PropertiesKeyword::new)::createKeyword
+            ),
             //nomally affectedBy ... but we had the needed function only in affects :(
             new AffectsKeywordType(
                 AdditionalPropertiesKeyword.NAME,
                 List.of(
-                    new Affects("properties", JsonValue.EMPTY_JSON_ARRAY),
-                    new Affects("patternProperties", JsonValue.EMPTY_JSON_ARRAY)
+                    new Affects(PropertiesKeyword.NAME, JsonValue.EMPTY_JSON_ARRAY),
+                    new Affects(PatternPropertiesKeyword.NAME, JsonValue.EMPTY_JSON_ARRAY)
                 ),
                 (affects, schema) ->
                     new SubSchemaKeywordType(AdditionalPropertiesKeyword.NAME, s ->
                         new AdditionalPropertiesKeyword(affects, s)
                     ).createKeyword(schema)
             ),
-            new NamedJsonSchemaKeywordType(PatternPropertiesKeyword.NAME, PatternPropertiesKeyword::new),
+            new AffectedByKeywordType(
+                PatternPropertiesKeyword.NAME,
+                List.of(new ReplacedBy(AdditionalPropertiesKeyword.NAME)),
+                new NamedJsonSchemaKeywordType(
+                    PatternPropertiesKeyword.NAME,
+                    PatternPropertiesKeyword::new
+                )::createKeyword
+            ),
             new NamedJsonSchemaKeywordType(DependentSchemasKeyword.NAME, DependentSchemasKeyword::new),
             new SubSchemaKeywordType(PropertyNames.NAME, s -> new PropertyNames(provider, s)),
             //this example shows my missunderstanding from affects, affectedBy and keywordtypes :(
@@ -109,7 +122,12 @@ public final class ApplicatorVocabulary implements Vocabulary {
                             ).createKeyword(subSchema)
                     ).createKeyword(schema)
             ),
-            new SchemaArrayKeywordType(PrefixItemsKeyword.NAME, PrefixItemsKeyword::new),
+            //items applies the positional schemas in the same pass -> prefixItems is only an annotation then
+            new AffectedByKeywordType(
+                PrefixItemsKeyword.NAME,
+                List.of(new ReplacedBy(ItemsKeyword.NAME)),
+                new SchemaArrayKeywordType(PrefixItemsKeyword.NAME, PrefixItemsKeyword::new)::createKeyword
+            ),
             new AffectedByKeywordType(
                 ContainsKeyword.NAME,
                 List.of(new ReplacedBy("minContains"), new ExtendedBy("maxContains")),
@@ -28,6 +28,9 @@ import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.InstanceType;
 import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MatchCounter;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.StreamableKeyword;
 import io.github.sebastiantoepfer.jsonschema.keyword.Annotation;
 import io.github.sebastiantoepfer.jsonschema.keyword.Applicator;
 import jakarta.json.JsonArray;
@@ -35,6 +38,7 @@ import jakarta.json.JsonValue;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -49,7 +53,7 @@ import java.util.stream.Stream;
  * source: https://www.learnjsonschema.com/2020-12/applicator/contains/
  * spec: https://json-schema.org/draft/2020-12/json-schema-core.html#section-10.3.1.3
  */
-final class ContainsKeyword implements Applicator, Annotation {
+final class ContainsKeyword implements Applicator, Annotation, MatchCounter, StreamableKeyword {
 
     static final String NAME = "contains";
     private final JsonSchema contains;
@@ -79,7 +83,28 @@ final class ContainsKeyword implements Applicator, Annotation {
     }
 
     private boolean contains(final JsonArray array) {
-        return matchingValues(array).findAny().isPresent();
+        return countMatches(array, 1) == 1;
+    }
+
+    @Override
+    public int countMatches(final JsonArray array, final int limit) {
+        int result = 0;
+        for (int i = 0; i < array.size() && result < limit; i++) {
+            if (contains.applyTo(array.get(i))) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<MemberEvaluation<Integer>> startArray() {
+        return Optional.of(new ContainsEvaluation());
+    }
+
+    @Override
+    public JsonSchema matchSchema() {
+        return contains;
     }
 
     @Override
@@ -107,4 +132,34 @@ final class ContainsKeyword implements Applicator, Annotation {
     Stream<JsonValue> matchingValues(final JsonArray values) {
         return values.stream().filter(contains::applyTo);
     }
+
+    /**
+     * A failing item does not make the array invalid, and the items after the first match are skipped.
+     */
+    private final class ContainsEvaluation implements MemberEvaluation<Integer> {
+
+        private boolean found;
+
+        @Override
+        public List<JsonSchema> schemasFor(final Integer index) {
+            final List<JsonSchema> result;
+            if (found) {
+                result = List.of();
+            } else {
+                result = List.of(contains);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean schemaApplied(final Integer index, final JsonSchema schema, final boolean result) {
+            found |= result;
+            return true;
+        }
+
+        @Override
+        public boolean isValid(final int members) {
+            return found;
+        }
+    }
 }
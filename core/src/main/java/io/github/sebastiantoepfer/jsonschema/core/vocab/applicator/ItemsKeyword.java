@@ -23,17 +23,23 @@
  */
 package io.github.sebastiantoepfer.jsonschema.core.vocab.applicator;
 
+import static java.util.function.Predicate.not;
+
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.InstanceType;
 import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.StreamableKeyword;
 import io.github.sebastiantoepfer.jsonschema.keyword.Annotation;
 import io.github.sebastiantoepfer.jsonschema.keyword.Applicator;
+import io.github.sebastiantoepfer.jsonschema.keyword.StaticAnnotation;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonNumber;
 import jakarta.json.JsonValue;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -52,17 +58,40 @@ import java.util.stream.Stream;
  * source: https://www.learnjsonschema.com/2020-12/applicator/items/
  * sepc: https://json-schema.org/draft/2020-12/json-schema-core.html#section-10.3.1.2
  */
-final class ItemsKeyword implements Applicator, Annotation {
+final class ItemsKeyword implements Applicator, Annotation, StreamableKeyword {
 
     static final String NAME = "items";
+    private final List<JsonSchema> prefixSchemas;
     private final Collection<Annotation> affectedBys;
     private final JsonSchema schema;
 
     public ItemsKeyword(final Collection<Annotation> affectedBys, final JsonSchema schema) {
-        this.affectedBys = List.copyOf(affectedBys);
+        this.prefixSchemas = affectedBys
+            .stream()
+            .filter(PrefixItemsKeyword.class::isInstance)
+            .map(PrefixItemsKeyword.class::cast)
+            .map(PrefixItemsKeyword::schemas)
+            .flatMap(Collection::stream)
+            .toList();
+        this.affectedBys = affectedBys
+            .stream()
+            .filter(not(PrefixItemsKeyword.class::isInstance))
+            .filter(not(ItemsKeyword::isAbsentPrefixItems))
+            .toList();
         this.schema = Objects.requireNonNull(schema);
     }
 
+    /**
+     * An absent prefixItems is replaced by a static annotation of -1, which does not move the first item.
+     */
+    private static boolean isAbsentPrefixItems(final Annotation annotation) {
+        return (
+            annotation instanceof StaticAnnotation &&
+            annotation.valueFor(JsonValue.EMPTY_JSON_ARRAY) instanceof JsonNumber index &&
+            index.intValue() == -1
+        );
+    }
+
     @Override
     public <T extends Media<T>> T printOn(final T media) {
         return media.withValue(NAME, schema);
@@ -98,12 +127,52 @@ final class ItemsKeyword implements Applicator, Annotation {
         return !InstanceType.ARRAY.isInstance(instance) || applyTo(instance.asJsonArray());
     }
 
+    /**
+     * Applies the positional schemas of prefixItems in the same pass as the schema of this keyword.
+     */
     private boolean applyTo(final JsonArray items) {
-        return itemsForValidation(items).allMatch(schema::applyTo);
+        final int firstItem = firstItemIndexFor(items);
+        boolean result = true;
+        for (int i = 0; result && i < items.size(); i++) {
+            if (i < prefixSchemas.size()) {
+                result = prefixSchemas.get(i).applyTo(items.get(i));
+            } else if (i >= firstItem) {
+                result = schema.applyTo(items.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The items evaluated by other applicators (like contains) are only known after the whole array was read.
+     */
+    @Override
+    public Optional<MemberEvaluation<Integer>> startArray() {
+        final Optional<MemberEvaluation<Integer>> result;
+        if (affectedBys.isEmpty()) {
+            result = Optional.of(new MemberDispatch<>(this::schemasFor));
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    private List<JsonSchema> schemasFor(final int index) {
+        final List<JsonSchema> result;
+        if (index < prefixSchemas.size()) {
+            result = List.of(prefixSchemas.get(index));
+        } else {
+            result = List.of(schema);
+        }
+        return result;
     }
 
     private Stream<JsonValue> itemsForValidation(final JsonArray items) {
-        return items.stream().skip(startIndexFor(items) + 1L);
+        return items.stream().skip(firstItemIndexFor(items));
+    }
+
+    private int firstItemIndexFor(final JsonArray items) {
+        return prefixSchemas.size() + startIndexFor(items) + 1;
     }
 
     private int startIndexFor(final JsonArray value) {
@@ -0,0 +1,55 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core.vocab.applicator;
+
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Streamed evaluation of an applicator which only dispatches the members of an instance to its schemas. The
+ * instance is valid if the value of every member is valid against its schemas.
+ *
+ * @param <M> name or index of a member
+ */
+final class MemberDispatch<M> implements MemberEvaluation<M> {
+
+    private final Function<M, List<JsonSchema>> schemas;
+
+    MemberDispatch(final Function<M, List<JsonSchema>> schemas) {
+        this.schemas = Objects.requireNonNull(schemas);
+    }
+
+    @Override
+    public List<JsonSchema> schemasFor(final M member) {
+        return schemas.apply(member);
+    }
+
+    @Override
+    public boolean isValid(final int members) {
+        return true;
+    }
+}
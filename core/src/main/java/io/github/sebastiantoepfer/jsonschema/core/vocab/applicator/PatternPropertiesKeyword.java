@@ -33,6 +33,9 @@ import io.github.sebastiantoepfer.jsonschema.core.keyword.type.NamedJsonSchemas;
 import io.github.sebastiantoepfer.jsonschema.keyword.Annotation;
 import io.github.sebastiantoepfer.jsonschema.keyword.Applicator;
 import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
+import io.github.sebastiantoepfer.jsonschema.keyword.MemoStatistics;
+import io.github.sebastiantoepfer.jsonschema.vocabulary.spi.DefaultRegexEngine;
+import io.github.sebastiantoepfer.jsonschema.vocabulary.spi.RegexSet;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
@@ -41,7 +44,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 /**
  * <b>patternProperties</b> : <i>Object<String, Schema></i><br/>
@@ -60,27 +63,30 @@ import java.util.regex.Pattern;
  * source: https://www.learnjsonschema.com/2020-12/applicator/patternproperties/
  * spec: https://json-schema.org/draft/2020-12/json-schema-core.html#section-10.3.2.2
  */
-class PatternPropertiesKeyword implements Applicator, Annotation {
+class PatternPropertiesKeyword implements Applicator, Annotation, PropertySchemas, MemoStatistics {
 
     static final String NAME = "patternProperties";
-    private final Map<Pattern, JsonSchema> properties;
+    private static final DefaultRegexEngine REGEX_ENGINE = DefaultRegexEngine.shared();
+    private static final int MEMO_CAPACITY = 1_024;
+    //the schema at index i belongs to pattern i -> all patterns are searched in one pass per property name
+    private final RegexSet patterns;
+    private final List<JsonSchema> schemas;
+    //shared by applyTo, valueFor and additionalProperties
+    private final PropertyNameMemo<List<JsonSchema>> matchingSchemas;
 
     public PatternPropertiesKeyword(final NamedJsonSchemas properties) {
-        this.properties = properties
-            .schemas()
-            .stream()
-            .map(e -> Map.entry(Pattern.compile(e.getKey()), e.getValue()))
-            .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+        final List<Map.Entry<String, JsonSchema>> entries = List.copyOf(properties.schemas());
+        this.patterns = new RegexSet(REGEX_ENGINE, entries.stream().map(Map.Entry::getKey).toList());
+        this.schemas = entries.stream().map(Map.Entry::getValue).toList();
+        this.matchingSchemas = new PropertyNameMemo<>(MEMO_CAPACITY, this::findSchemasFor);
     }
 
     @Override
     public <T extends Media<T>> T printOn(final T media) {
         return media.withValue(
             NAME,
-            properties
-                .entrySet()
-                .stream()
-                .map(e -> Map.entry(e.getKey().pattern(), e.getValue()))
+            IntStream.range(0, schemas.size())
+                .mapToObj(i -> Map.entry(patterns.patterns().get(i), schemas.get(i)))
                 .collect(collectingAndThen(toMap(Map.Entry::getKey, Map.Entry::getValue), NamedJsonSchemas::new))
         );
     }
@@ -105,12 +111,26 @@ class PatternPropertiesKeyword implements Applicator, Annotation {
     }
 
     private boolean propertyMatches(final Map.Entry<String, JsonValue> property) {
-        return properties
-            .entrySet()
-            .stream()
-            .filter(e -> e.getKey().matcher(property.getKey()).find())
-            .map(Map.Entry::getValue)
-            .allMatch(schema -> schema.applyTo(property.getValue()));
+        return schemasFor(property.getKey()).stream().allMatch(schema -> schema.applyTo(property.getValue()));
+    }
+
+    @Override
+    public List<JsonSchema> schemasFor(final String propertyName) {
+        return matchingSchemas.valueFor(propertyName);
+    }
+
+    private List<JsonSchema> findSchemasFor(final String propertyName) {
+        return patterns.matches(propertyName).stream().mapToObj(schemas::get).toList();
+    }
+
+    @Override
+    public long hits() {
+        return matchingSchemas.hits();
+    }
+
+    @Override
+    public long misses() {
+        return matchingSchemas.misses();
     }
 
     @Override
@@ -125,9 +145,6 @@ class PatternPropertiesKeyword implements Applicator, Annotation {
     }
 
     private boolean isValidName(final String name) {
-        return properties
-            .keySet()
-            .stream()
-            .anyMatch(p -> p.matcher(name).find());
+        return !schemasFor(name).isEmpty();
     }
 }
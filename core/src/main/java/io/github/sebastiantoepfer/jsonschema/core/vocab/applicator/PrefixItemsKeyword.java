@@ -26,6 +26,8 @@ package io.github.sebastiantoepfer.jsonschema.core.vocab.applicator;
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.InstanceType;
 import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.StreamableKeyword;
 import io.github.sebastiantoepfer.jsonschema.keyword.Annotation;
 import io.github.sebastiantoepfer.jsonschema.keyword.Applicator;
 import jakarta.json.Json;
@@ -34,6 +36,7 @@ import jakarta.json.JsonValue;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * <b>prefixItems</b> : <i>Array<Schema></i><br/>
@@ -51,7 +54,7 @@ import java.util.Objects;
  * source: https://www.learnjsonschema.com/2020-12/applicator/prefixitems/
  * spec: https://json-schema.org/draft/2020-12/json-schema-core.html#section-10.3.1.1
  */
-class PrefixItemsKeyword implements Annotation, Applicator {
+class PrefixItemsKeyword implements Annotation, Applicator, StreamableKeyword {
 
     static final String NAME = "prefixItems";
     private final List<JsonSchema> schemas;
@@ -86,11 +89,33 @@ class PrefixItemsKeyword implements Annotation, Applicator {
         return result;
     }
 
+    /**
+     * @return the positional schemas, the first one is responsible for the first item and so on
+     */
+    List<JsonSchema> schemas() {
+        return schemas;
+    }
+
     @Override
     public boolean applyTo(final JsonValue instance) {
         return !InstanceType.ARRAY.isInstance(instance) || matchesSchemas(instance.asJsonArray());
     }
 
+    @Override
+    public Optional<MemberEvaluation<Integer>> startArray() {
+        return Optional.of(new MemberDispatch<>(this::schemasFor));
+    }
+
+    private List<JsonSchema> schemasFor(final int index) {
+        final List<JsonSchema> result;
+        if (index < schemas.size()) {
+            result = List.of(schemas.get(index));
+        } else {
+            result = List.of();
+        }
+        return result;
+    }
+
     private boolean matchesSchemas(final JsonArray instance) {
         boolean result = true;
         for (int i = 0; i < Math.min(schemas.size(), instance.size()); i++) {
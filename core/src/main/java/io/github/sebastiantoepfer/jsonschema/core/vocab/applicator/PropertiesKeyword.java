@@ -54,7 +54,7 @@ import java.util.Objects;
  * source: https://www.learnjsonschema.com/2020-12/applicator/properties/
  * spec: https://json-schema.org/draft/2020-12/json-schema-core.html#section-10.3.2.1
  */
-final class PropertiesKeyword implements Applicator, Annotation {
+final class PropertiesKeyword implements Applicator, Annotation, PropertySchemas {
 
     static final String NAME = "properties";
     private final NamedJsonSchemas properties;
@@ -95,6 +95,11 @@ final class PropertiesKeyword implements Applicator, Annotation {
             .orElse(true);
     }
 
+    @Override
+    public List<JsonSchema> schemasFor(final String propertyName) {
+        return properties.schemaWithName(propertyName).map(List::of).orElseGet(List::of);
+    }
+
     @Override
     public JsonValue valueFor(final JsonValue instance) {
         return instance
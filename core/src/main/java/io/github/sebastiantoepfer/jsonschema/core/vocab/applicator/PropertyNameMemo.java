@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core.vocab.applicator;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Bounded and thread safe memo of a function of property names. Instances of one kind of document mostly use the
+ * same few property names, so the result for a name is computed once and reused for all following instances.
+ *
+ * If the memo is full, the names used least since the last eviction are removed first: every lookup increments a
+ * (saturating) counter of the entry and every eviction round halves all counters and removes the entries with a
+ * counter of zero. So names which are used again and again survive, while names which are only used once are
+ * removed with the next eviction.
+ */
+final class PropertyNameMemo<T> {
+
+    private static final int MAX_USES = 15;
+    //long names are (nearly) never reused and would hold a lot of memory
+    private static final int MAX_NAME_LENGTH = 256;
+    private final int capacity;
+    private final Function<String, T> function;
+    private final Map<String, Entry<T>> entries;
+    private final Lock evictionLock;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    PropertyNameMemo(final int capacity, final Function<String, T> function) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.function = Objects.requireNonNull(function);
+        this.entries = new ConcurrentHashMap<>();
+        this.evictionLock = new ReentrantLock();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    T valueFor(final String propertyName) {
+        final T result;
+        final Entry<T> entry = entries.get(propertyName);
+        if (entry == null) {
+            misses.increment();
+            result = function.apply(propertyName);
+            if (propertyName.length() <= MAX_NAME_LENGTH) {
+                if (entries.size() >= capacity) {
+                    evict();
+                }
+                entries.putIfAbsent(propertyName, new Entry<>(result));
+            }
+        } else {
+            hits.increment();
+            result = entry.use();
+        }
+        return result;
+    }
+
+    private void evict() {
+        //one evicting thread is enough, all others just add their entry
+        if (evictionLock.tryLock()) {
+            try {
+                final int target = capacity - Math.max(1, capacity / 4);
+                while (entries.size() > target) {
+                    entries.values().removeIf(Entry::age);
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static final class Entry<T> {
+
+        private final T value;
+        //benign race: a lost increment only makes the entry look a bit colder
+        private volatile int uses;
+
+        Entry(final T value) {
+            this.value = value;
+        }
+
+        T use() {
+            final int current = uses;
+            if (current < MAX_USES) {
+                uses = current + 1;
+            }
+            return value;
+        }
+
+        /**
+         * @return true if the entry was not used since the last eviction round and should be removed
+         */
+        boolean age() {
+            final int current = uses;
+            uses = current / 2;
+            return current == 0;
+        }
+    }
+}
@@ -26,11 +26,14 @@ package io.github.sebastiantoepfer.jsonschema.core.vocab.applicator;
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.InstanceType;
 import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.StreamableKeyword;
 import io.github.sebastiantoepfer.jsonschema.keyword.Applicator;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
 import jakarta.json.spi.JsonProvider;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * <b>propertyNames</b> : <i>Schema</i><br/>
@@ -45,7 +48,7 @@ import java.util.Objects;
  * source: https://www.learnjsonschema.com/2020-12/applicator/propertynames/
  * spec: https://json-schema.org/draft/2020-12/json-schema-core.html#section-10.3.2.4
  */
-final class PropertyNames implements Applicator {
+final class PropertyNames implements Applicator, StreamableKeyword {
 
     static final String NAME = "propertyNames";
     private final JsonProvider provider;
@@ -71,7 +74,25 @@ final class PropertyNames implements Applicator {
         return !InstanceType.OBJECT.isInstance(instance) || allProperyNamesMatchesSchema(instance.asJsonObject());
     }
 
+    @Override
+    public Optional<MemberEvaluation<String>> startObject() {
+        return Optional.of(new PropertyNameEvaluation());
+    }
+
     private boolean allProperyNamesMatchesSchema(final JsonObject obj) {
         return obj.keySet().stream().map(provider::createValue).allMatch(names::applyTo);
     }
+
+    private final class PropertyNameEvaluation implements MemberEvaluation<String> {
+
+        @Override
+        public boolean memberStarts(final String name) {
+            return names.applyTo(provider.createValue(name));
+        }
+
+        @Override
+        public boolean isValid(final int members) {
+            return true;
+        }
+    }
 }
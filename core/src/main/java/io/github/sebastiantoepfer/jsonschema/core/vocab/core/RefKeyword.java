@@ -25,6 +25,7 @@ package io.github.sebastiantoepfer.jsonschema.core.vocab.core;
 
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.core.DefaultJsonObjectSchema;
 import io.github.sebastiantoepfer.jsonschema.keyword.Applicator;
 import jakarta.json.Json;
 import jakarta.json.JsonPointer;
@@ -32,6 +33,7 @@ import jakarta.json.JsonValue;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * <b>$ref</b> : <i>URI Reference</i><br/>
@@ -50,6 +52,7 @@ final class RefKeyword implements Applicator {
     private final JsonSchema schema;
     private final URI uri;
     private final SchemaRegistry schemaRegistry;
+    private volatile JsonSchema referencedSchema;
 
     public RefKeyword(final JsonSchema schema, final URI uri, final SchemaRegistry schemaRegistry) {
         this.schema = Objects.requireNonNull(schema);
@@ -64,7 +67,7 @@ final class RefKeyword implements Applicator {
 
     @Override
     public boolean applyTo(final JsonValue instance) {
-        return retrieveJsonSchema().applyTo(instance);
+        return referencedSchema().applyTo(instance);
     }
 
     @Override
@@ -72,10 +75,25 @@ final class RefKeyword implements Applicator {
         return Objects.equals(NAME, name);
     }
 
+    /**
+     * the reference is resolved on first use (schemas can reference themselves) and bound for every further use.
+     */
+    private JsonSchema referencedSchema() {
+        JsonSchema result = referencedSchema;
+        if (result == null) {
+            result = retrieveJsonSchema();
+            referencedSchema = result;
+        }
+        return result;
+    }
+
     private JsonSchema retrieveJsonSchema() {
         final JsonSchema json;
         try {
-            if (isRemote()) {
+            final Optional<JsonSchema> indexed = retrieveSchemaFromIndex();
+            if (indexed.isPresent()) {
+                json = indexed.get();
+            } else if (isRemote()) {
                 json = retrieveSchemaFromRegistry();
             } else {
                 json = retrieveSchemaFromLocalSchema();
@@ -86,6 +104,16 @@ final class RefKeyword implements Applicator {
         }
     }
 
+    private Optional<JsonSchema> retrieveSchemaFromIndex() {
+        final Optional<JsonSchema> result;
+        if (schema.rootSchema() instanceof DefaultJsonObjectSchema root) {
+            result = root.schemaFor(schema, uri);
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
     private JsonSchema retrieveSchemaFromLocalSchema() throws IOException {
         return schema.rootSchema().subSchema(createPointer()).orElseThrow();
     }
@@ -102,10 +130,30 @@ final class RefKeyword implements Applicator {
     }
 
     private JsonSchema retrieveSchemaFromRegistry() throws IOException {
-        return schemaRegistry.schemaForUrl(uri);
+        final URI target = absoluteUri();
+        final JsonSchema document = schemaRegistry.schemaForUrl(target);
+        final JsonSchema result;
+        if (target.getRawFragment() != null && document instanceof DefaultJsonObjectSchema root) {
+            result = root
+                .schemaFor(URI.create("#".concat(target.getRawFragment())))
+                .orElseThrow(() -> new IllegalStateException("can not find " + target));
+        } else {
+            result = document;
+        }
+        return result;
     }
 
     private boolean isRemote() {
-        return uri.getScheme() != null;
+        return absoluteUri().getScheme() != null;
+    }
+
+    private URI absoluteUri() {
+        final URI result;
+        if (schema.rootSchema() instanceof DefaultJsonObjectSchema root) {
+            result = root.resolve(schema, uri);
+        } else {
+            result = uri;
+        }
+        return result;
     }
 }
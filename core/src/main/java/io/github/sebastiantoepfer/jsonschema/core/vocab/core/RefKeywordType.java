@@ -33,12 +33,17 @@ import java.util.Objects;
 
 final class RefKeywordType implements KeywordType {
 
+    private static final SchemaRegistry SCHEMA_REGISTRY = new SchemaRegistry.DefaultSchemaRegistry();
     private final JsonProvider jsonContext;
     private final SchemaRegistry schemaRegistry;
 
     public RefKeywordType(final JsonProvider jsonContext) {
+        this(jsonContext, SCHEMA_REGISTRY);
+    }
+
+    RefKeywordType(final JsonProvider jsonContext, final SchemaRegistry schemaRegistry) {
         this.jsonContext = Objects.requireNonNull(jsonContext);
-        this.schemaRegistry = new SchemaRegistry.DefaultSchemaRegistry();
+        this.schemaRegistry = Objects.requireNonNull(schemaRegistry);
     }
 
     @Override
@@ -0,0 +1,154 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core.vocab.core;
+
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import jakarta.json.JsonValue;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of compiled schemas. The number of json values of a schema is its weight, if the summed up weight
+ * exceeds the capacity the schemas with the fewest hits per weight are evicted first. Pinned schemas are never
+ * evicted.
+ */
+final class SchemaCache {
+
+    static final long DEFAULT_CAPACITY = 1024L * 1024;
+    private final long capacity;
+    private final Map<URI, CachedSchema> schemas;
+    private final AtomicLong weight;
+
+    SchemaCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    SchemaCache(final long capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive!");
+        }
+        this.capacity = capacity;
+        this.schemas = new ConcurrentHashMap<>();
+        this.weight = new AtomicLong();
+    }
+
+    Optional<JsonSchema> schemaFor(final URI uri) {
+        return Optional.ofNullable(schemas.get(uri)).map(CachedSchema::hit);
+    }
+
+    /**
+     * @return the cached schema, which is the given one or the one an other thread has cached before.
+     */
+    JsonSchema cache(final URI uri, final JsonSchema schema) {
+        return add(uri, new CachedSchema(schema, false));
+    }
+
+    JsonSchema pin(final URI uri, final JsonSchema schema) {
+        return add(uri, new CachedSchema(schema, true));
+    }
+
+    long weight() {
+        return weight.get();
+    }
+
+    /**
+     * @return number of json values (objects, arrays and their members) of the schema
+     */
+    static long weightOf(final JsonValue schema) {
+        final Deque<JsonValue> pending = new ArrayDeque<>();
+        pending.push(schema);
+        long result = 0;
+        while (!pending.isEmpty()) {
+            final JsonValue value = pending.pop();
+            result++;
+            if (value.getValueType() == JsonValue.ValueType.OBJECT) {
+                value.asJsonObject().values().forEach(pending::push);
+            } else if (value.getValueType() == JsonValue.ValueType.ARRAY) {
+                value.asJsonArray().forEach(pending::push);
+            }
+        }
+        return result;
+    }
+
+    private JsonSchema add(final URI uri, final CachedSchema schema) {
+        final CachedSchema known = schemas.putIfAbsent(uri, schema);
+        final JsonSchema result;
+        if (known == null) {
+            if (!schema.pinned && weight.addAndGet(schema.weight) > capacity) {
+                evict();
+            }
+            result = schema.schema;
+        } else {
+            result = known.hit();
+        }
+        return result;
+    }
+
+    private synchronized void evict() {
+        boolean evictable = true;
+        while (evictable && weight.get() > capacity) {
+            final Optional<Map.Entry<URI, CachedSchema>> victim = schemas
+                .entrySet()
+                .stream()
+                .filter(e -> !e.getValue().pinned)
+                .min(Comparator.comparingDouble(e -> e.getValue().score()));
+            victim
+                .filter(e -> schemas.remove(e.getKey(), e.getValue()))
+                .ifPresent(e -> weight.addAndGet(-e.getValue().weight));
+            evictable = victim.isPresent();
+        }
+    }
+
+    private static final class CachedSchema {
+
+        private final JsonSchema schema;
+        private final boolean pinned;
+        private final long weight;
+        private final LongAdder hits;
+
+        CachedSchema(final JsonSchema schema, final boolean pinned) {
+            this.schema = Objects.requireNonNull(schema);
+            this.pinned = pinned;
+            this.weight = weightOf(schema);
+            this.hits = new LongAdder();
+        }
+
+        JsonSchema hit() {
+            hits.increment();
+            return schema;
+        }
+
+        double score() {
+            return (hits.sum() + 1.0) / weight;
+        }
+    }
+}
@@ -23,26 +23,112 @@
  */
 package io.github.sebastiantoepfer.jsonschema.core.vocab.core;
 
+import static java.util.stream.Collectors.toList;
+
 import io.github.sebastiantoepfer.jsonschema.JsonSchema;
 import io.github.sebastiantoepfer.jsonschema.JsonSchemas;
+import io.github.sebastiantoepfer.jsonschema.spi.ClasspathSchemaLoader;
+import io.github.sebastiantoepfer.jsonschema.spi.SchemaLoader;
+import io.github.sebastiantoepfer.jsonschema.spi.SchemaLoaders;
 import jakarta.json.JsonValue;
 import java.io.IOException;
 import java.net.URI;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.stream.Stream;
 
 interface SchemaRegistry {
     JsonSchema schemaForUrl(URI uri) throws IOException;
 
+    /**
+     * Loads the schemas with the {@link SchemaLoader}s (from the {@link ServiceLoader} and the ones registered in
+     * {@link SchemaLoaders} by default) and caches the compiled schemas, so every document is loaded only once and
+     * shared by all schemas which reference it. Unknown schemas are resolved to the <i>false</i> schema.
+     * The meta-schemas of the 2020-12 dialect are part of this module, they are never loaded over the network and
+     * never evicted from the cache.
+     */
     class DefaultSchemaRegistry implements SchemaRegistry {
 
+        private static final URI META_SCHEMAS = URI.create("https://json-schema.org/draft/2020-12/");
         private final JsonSchema schema;
+        private final Collection<SchemaLoader> loaders;
+        private final SchemaCache cache;
 
         public DefaultSchemaRegistry() {
-            schema = JsonSchemas.load(JsonValue.FALSE);
+            this(
+                Stream.concat(
+                    Stream.of(
+                        new ClasspathSchemaLoader(
+                            META_SCHEMAS,
+                            "json-schema.org/draft/2020-12",
+                            DefaultSchemaRegistry.class.getClassLoader()
+                        )
+                    ),
+                    Stream.concat(
+                        ServiceLoader.load(SchemaLoader.class).stream().map(ServiceLoader.Provider::get),
+                        Stream.of(SchemaLoaders::loadSchema)
+                    )
+                ).collect(toList())
+            );
+        }
+
+        public DefaultSchemaRegistry(final Collection<? extends SchemaLoader> loaders) {
+            this(loaders, new SchemaCache());
+        }
+
+        DefaultSchemaRegistry(final Collection<? extends SchemaLoader> loaders, final SchemaCache cache) {
+            this.schema = JsonSchemas.load(JsonValue.FALSE);
+            this.loaders = List.copyOf(loaders);
+            this.cache = Objects.requireNonNull(cache);
         }
 
         @Override
         public JsonSchema schemaForUrl(final URI uri) throws IOException {
-            return schema;
+            final URI canonical = canonical(uri);
+            final Optional<JsonSchema> cached = cache.schemaFor(canonical);
+            final JsonSchema result;
+            if (cached.isPresent()) {
+                result = cached.get();
+            } else {
+                final Optional<JsonValue> json = load(canonical);
+                if (json.isPresent() && isMetaSchema(canonical)) {
+                    result = cache.pin(canonical, JsonSchemas.load(json.get()));
+                } else if (json.isPresent()) {
+                    result = cache.cache(canonical, JsonSchemas.load(json.get()));
+                } else {
+                    result = schema;
+                }
+            }
+            return result;
+        }
+
+        private Optional<JsonValue> load(final URI uri) throws IOException {
+            final Iterator<SchemaLoader> it = loaders.iterator();
+            Optional<JsonValue> result = Optional.empty();
+            while (result.isEmpty() && it.hasNext()) {
+                result = it.next().loadSchema(uri);
+            }
+            return result;
+        }
+
+        private static boolean isMetaSchema(final URI uri) {
+            return uri.toString().startsWith(META_SCHEMAS.toString());
+        }
+
+        private static URI canonical(final URI uri) {
+            final URI normalized = uri.normalize();
+            final URI result;
+            if (normalized.getRawFragment() == null) {
+                result = normalized;
+            } else {
+                final String value = normalized.toString();
+                result = URI.create(value.substring(0, value.indexOf('#')));
+            }
+            return result;
         }
     }
 }
@@ -0,0 +1,138 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
+
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Json value with the equality defined by json schema: numbers are equal if they are mathematically equal (1.0 and
+ * 1 are equal), this also applies to numbers inside of arrays and objects. The canonical form (normalized numbers,
+ * strings, lists and maps of canonical values) and its structural hash are computed once, so instances can be used
+ * as keys of hash based collections.
+ */
+final class CanonicalJsonValue {
+
+    private final JsonValue.ValueType type;
+    private final Object canonical;
+    private final int hash;
+
+    CanonicalJsonValue(final JsonValue value) {
+        this.type = value.getValueType();
+        this.canonical = canonicalFormOf(value);
+        this.hash = 31 * type.ordinal() + canonical.hashCode();
+    }
+
+    private static Object canonicalFormOf(final JsonValue value) {
+        return switch (value.getValueType()) {
+            case NUMBER -> ((JsonNumber) value).bigDecimalValue().stripTrailingZeros();
+            case STRING -> ((JsonString) value).getString();
+            case ARRAY -> value.asJsonArray().stream().map(CanonicalJsonValue::new).toList();
+            case OBJECT -> value
+                .asJsonObject()
+                .entrySet()
+                .stream()
+                .collect(toUnmodifiableMap(Map.Entry::getKey, e -> new CanonicalJsonValue(e.getValue())));
+            default -> value.getValueType();
+        };
+    }
+
+    /**
+     * Compares the value with this canonical form while walking it, without creating the canonical form of the value.
+     * The comparison ends at the first differing type, size or member.
+     *
+     * @param value value to compare
+     * @return true if the value is equal to this value by the equality of json schema
+     */
+    boolean isEqualTo(final JsonValue value) {
+        return type == value.getValueType() && hasEqualContent(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean hasEqualContent(final JsonValue value) {
+        return switch (type) {
+            case NUMBER -> ((BigDecimal) canonical).compareTo(((JsonNumber) value).bigDecimalValue()) == 0;
+            case STRING -> canonical.equals(((JsonString) value).getString());
+            case ARRAY -> hasEqualItems((List<CanonicalJsonValue>) canonical, value.asJsonArray());
+            case OBJECT -> hasEqualProperties((Map<String, CanonicalJsonValue>) canonical, value.asJsonObject());
+            default -> true;
+        };
+    }
+
+    private static boolean hasEqualItems(final List<CanonicalJsonValue> items, final JsonArray array) {
+        boolean result = items.size() == array.size();
+        for (int i = 0; result && i < items.size(); i++) {
+            result = items.get(i).isEqualTo(array.get(i));
+        }
+        return result;
+    }
+
+    private static boolean hasEqualProperties(
+        final Map<String, CanonicalJsonValue> properties,
+        final JsonObject object
+    ) {
+        return (
+            properties.size() == object.size() &&
+            object.entrySet().stream().allMatch(e -> isEqualProperty(properties.get(e.getKey()), e.getValue()))
+        );
+    }
+
+    private static boolean isEqualProperty(final CanonicalJsonValue property, final JsonValue value) {
+        return property != null && property.isEqualTo(value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final CanonicalJsonValue other = (CanonicalJsonValue) obj;
+        return hash == other.hash && type == other.type && Objects.equals(canonical, other.canonical);
+    }
+
+    @Override
+    public String toString() {
+        return "CanonicalJsonValue{" + "canonical=" + canonical + '}';
+    }
+}
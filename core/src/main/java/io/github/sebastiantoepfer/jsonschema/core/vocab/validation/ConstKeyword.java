@@ -25,9 +25,7 @@ package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
 
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.ddd.media.json.JsonObjectPrintable;
-import io.github.sebastiantoepfer.jsonschema.InstanceType;
 import io.github.sebastiantoepfer.jsonschema.keyword.Assertion;
-import jakarta.json.JsonNumber;
 import jakarta.json.JsonValue;
 import jakarta.json.spi.JsonProvider;
 import java.util.Objects;
@@ -48,10 +46,12 @@ final class ConstKeyword implements Assertion {
     static final String NAME = "const";
     private final JsonProvider jsonContext;
     private final JsonValue allowedValue;
+    private final CanonicalJsonValue canonicalAllowedValue;
 
     public ConstKeyword(final JsonProvider jsonContext, final JsonValue allowedValue) {
         this.jsonContext = Objects.requireNonNull(jsonContext);
         this.allowedValue = Objects.requireNonNull(allowedValue);
+        this.canonicalAllowedValue = new CanonicalJsonValue(allowedValue);
     }
 
     @Override
@@ -61,17 +61,9 @@ final class ConstKeyword implements Assertion {
         );
     }
 
-    @SuppressWarnings("BigDecimalEquals")
+    //the instance is walked along the precomputed canonical form, it is not copied
     private boolean isEqualsToAllowed(final JsonValue instance) {
-        final boolean result;
-        if (InstanceType.NUMBER.isInstance(instance)) {
-            result = ((JsonNumber) instance).bigDecimalValue()
-                .stripTrailingZeros()
-                .equals(((JsonNumber) allowedValue).bigDecimalValue().stripTrailingZeros());
-        } else {
-            result = Objects.equals(allowedValue, instance);
-        }
-        return result;
+        return canonicalAllowedValue.isEqualTo(instance);
     }
 
     @Override
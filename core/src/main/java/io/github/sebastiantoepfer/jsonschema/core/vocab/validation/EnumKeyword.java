@@ -23,17 +23,16 @@
  */
 package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
 
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.ddd.media.json.JsonObjectPrintable;
-import io.github.sebastiantoepfer.jsonschema.InstanceType;
 import io.github.sebastiantoepfer.jsonschema.keyword.Assertion;
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
-import jakarta.json.JsonNumber;
 import jakarta.json.JsonValue;
-import java.math.BigDecimal;
 import java.util.Objects;
-import java.util.function.Predicate;
+import java.util.Set;
 
 /**
  * <b>enum</b> : <i>Array<Any></i><br/>
@@ -50,9 +49,11 @@ final class EnumKeyword implements Assertion {
 
     static final String NAME = "enum";
     private final JsonArray allowedValues;
+    private final Set<CanonicalJsonValue> canonicalAllowedValues;
 
     public EnumKeyword(final JsonArray allowedValues) {
         this.allowedValues = allowedValues;
+        this.canonicalAllowedValues = allowedValues.stream().map(CanonicalJsonValue::new).collect(toUnmodifiableSet());
     }
 
     @Override
@@ -62,19 +63,7 @@ final class EnumKeyword implements Assertion {
 
     @Override
     public boolean isValidFor(final JsonValue instance) {
-        final boolean result;
-        if (InstanceType.NUMBER.isInstance(instance)) {
-            result = allowedValues
-                .stream()
-                .filter(InstanceType.NUMBER::isInstance)
-                .map(JsonNumber.class::cast)
-                .map(JsonNumber::bigDecimalValue)
-                .map(BigDecimal::stripTrailingZeros)
-                .anyMatch(Predicate.isEqual(((JsonNumber) instance).bigDecimalValue().stripTrailingZeros()));
-        } else {
-            result = allowedValues.stream().anyMatch(Predicate.isEqual(instance));
-        }
-        return result;
+        return canonicalAllowedValues.contains(new CanonicalJsonValue(instance));
     }
 
     @Override
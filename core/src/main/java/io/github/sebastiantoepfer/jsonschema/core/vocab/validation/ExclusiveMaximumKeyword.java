@@ -46,9 +46,12 @@ final class ExclusiveMaximumKeyword implements Assertion {
 
     static final String NAME = "exclusiveMaximum";
     private final BigDecimal max;
+    //smallest long which is not less than max, instances with an exact long value are compared against it
+    private final long integralMax;
 
     public ExclusiveMaximumKeyword(final BigDecimal max) {
         this.max = max;
+        this.integralMax = LongNumbers.ceil(this.max);
     }
 
     @Override
@@ -63,8 +66,16 @@ final class ExclusiveMaximumKeyword implements Assertion {
 
     @Override
     public boolean isValidFor(final JsonValue instance) {
-        return (
-            !InstanceType.NUMBER.isInstance(instance) || max.compareTo(((JsonNumber) instance).bigDecimalValue()) > 0
-        );
+        return !InstanceType.NUMBER.isInstance(instance) || isValidFor((JsonNumber) instance);
+    }
+
+    private boolean isValidFor(final JsonNumber number) {
+        final boolean result;
+        if (LongNumbers.hasExactLongValue(number)) {
+            result = number.longValue() < integralMax;
+        } else {
+            result = max.compareTo(number.bigDecimalValue()) > 0;
+        }
+        return result;
     }
 }
@@ -46,9 +46,12 @@ final class ExclusiveMinimumKeyword implements Assertion {
 
     static final String NAME = "exclusiveMinimum";
     private final BigDecimal min;
+    //greatest long which is not greater than min, instances with an exact long value are compared against it
+    private final long integralMin;
 
     public ExclusiveMinimumKeyword(final BigDecimal min) {
         this.min = Objects.requireNonNull(min);
+        this.integralMin = LongNumbers.floor(this.min);
     }
 
     @Override
@@ -63,8 +66,16 @@ final class ExclusiveMinimumKeyword implements Assertion {
 
     @Override
     public boolean isValidFor(final JsonValue instance) {
-        return (
-            !InstanceType.NUMBER.isInstance(instance) || min.compareTo(((JsonNumber) instance).bigDecimalValue()) < 0
-        );
+        return !InstanceType.NUMBER.isInstance(instance) || isValidFor((JsonNumber) instance);
+    }
+
+    private boolean isValidFor(final JsonNumber number) {
+        final boolean result;
+        if (LongNumbers.hasExactLongValue(number)) {
+            result = number.longValue() > integralMin;
+        } else {
+            result = min.compareTo(number.bigDecimalValue()) < 0;
+        }
+        return result;
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
+
+/**
+ * Minimal set of primitive longs with a fixed capacity (open addressing, linear probing). Used to find duplicates
+ * in arrays of integers without boxing every value.
+ */
+final class LongHashSet {
+
+    private final long[] values;
+    private final boolean[] used;
+    private final int mask;
+
+    /**
+     * @param expectedSize maximal number of values which will be added
+     */
+    LongHashSet(final int expectedSize) {
+        final int capacity = Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1) << 1;
+        this.values = new long[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @param value value to add
+     * @return true if the value was not already in this set
+     */
+    boolean add(final long value) {
+        boolean result = true;
+        int index = indexOf(value);
+        while (used[index]) {
+            if (values[index] == value) {
+                result = false;
+                break;
+            }
+            index = (index + 1) & mask;
+        }
+        if (result) {
+            used[index] = true;
+            values[index] = value;
+        }
+        return result;
+    }
+
+    private int indexOf(final long value) {
+        final long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
+
+import jakarta.json.JsonNumber;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Helpers for the numeric keywords. Integral instances of a moderate size are compared as <code>long</code> against
+ * integral bounds which are computed once from the keyword value. Everything else keeps using
+ * <code>BigDecimal</code>, so the results are the same as with a pure <code>BigDecimal</code> comparison.
+ */
+final class LongNumbers {
+
+    //far away from the limits of long -> the long value of an integral number in this range is exact
+    private static final double EXACT_LONG_RANGE = 0x1p62;
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+
+    private LongNumbers() {}
+
+    /**
+     * @param number number to check
+     * @return true if {@link JsonNumber#longValue()} is the exact value of the number
+     */
+    static boolean hasExactLongValue(final JsonNumber number) {
+        return number.isIntegral() && Math.abs(number.doubleValue()) < EXACT_LONG_RANGE;
+    }
+
+    /**
+     * @param value value to round
+     * @return smallest long which is greater than or equal to value, clamped to the range of long
+     */
+    static long ceil(final BigDecimal value) {
+        return clamped(value.setScale(0, RoundingMode.CEILING));
+    }
+
+    /**
+     * @param value value to round
+     * @return greatest long which is less than or equal to value, clamped to the range of long
+     */
+    static long floor(final BigDecimal value) {
+        return clamped(value.setScale(0, RoundingMode.FLOOR));
+    }
+
+    private static long clamped(final BigDecimal integral) {
+        final long result;
+        if (integral.compareTo(MAX_LONG) > 0) {
+            result = Long.MAX_VALUE;
+        } else if (integral.compareTo(MIN_LONG) < 0) {
+            result = Long.MIN_VALUE;
+        } else {
+            result = integral.longValueExact();
+        }
+        return result;
+    }
+}
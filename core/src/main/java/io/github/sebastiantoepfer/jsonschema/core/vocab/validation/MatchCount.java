@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
+
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MatchCounter;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import io.github.sebastiantoepfer.jsonschema.keyword.Annotation;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Running count of the items which match the schemas of contains, while an array is read. Items are only applied
+ * to the schemas as long as the count can still change the result: the array is invalid as soon as the count
+ * exceeds the maximum, and items after the minimum is reached are skipped if there is no maximum.
+ */
+final class MatchCount implements MemberEvaluation<Integer> {
+
+    private final List<JsonSchema> schemas;
+    private final int min;
+    private final int max;
+    private int count;
+
+    /**
+     * @param schemas schemas an item must be valid against to match (every match counts)
+     * @param min minimum number of matches
+     * @param max maximum number of matches, Integer.MAX_VALUE for no maximum
+     */
+    MatchCount(final List<JsonSchema> schemas, final int min, final int max) {
+        this.schemas = List.copyOf(schemas);
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * @param annotations annotations of the keywords whose matches are counted (e.g. contains)
+     * @return the schemas to count the matches of, empty if an annotation can only count the items of a whole array
+     */
+    static Optional<List<JsonSchema>> schemasOf(final Collection<Annotation> annotations) {
+        final Optional<List<JsonSchema>> result;
+        if (annotations.stream().allMatch(MatchCounter.class::isInstance)) {
+            result = Optional.of(
+                annotations.stream().map(MatchCounter.class::cast).map(MatchCounter::matchSchema).toList()
+            );
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    @Override
+    public List<JsonSchema> schemasFor(final Integer index) {
+        final List<JsonSchema> result;
+        if (count < min || max != Integer.MAX_VALUE) {
+            result = schemas;
+        } else {
+            result = List.of();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean schemaApplied(final Integer index, final JsonSchema schema, final boolean result) {
+        if (result) {
+            count++;
+        }
+        return count <= max;
+    }
+
+    @Override
+    public boolean isValid(final int members) {
+        return count >= min;
+    }
+}
@@ -25,10 +25,13 @@ package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
 
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.InstanceType;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.StreamableKeyword;
 import io.github.sebastiantoepfer.jsonschema.keyword.Assertion;
 import jakarta.json.JsonValue;
 import java.math.BigInteger;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * <b>maxItems</b> : <i>Integer</i><br/>
@@ -41,9 +44,10 @@ import java.util.Objects;
  * source: https://www.learnjsonschema.com/2020-12/validation/maxitems/
  * spec: https://json-schema.org/draft/2020-12/json-schema-validation.html#section-6.4.1
  */
-final class MaxItemsKeyword implements Assertion {
+final class MaxItemsKeyword implements Assertion, StreamableKeyword {
 
     static final String NAME = "maxItems";
+    private static final BigInteger MAX_LIMIT = BigInteger.valueOf(Integer.MAX_VALUE);
     private final BigInteger maxItems;
 
     public MaxItemsKeyword(final BigInteger maxItems) {
@@ -57,11 +61,39 @@ final class MaxItemsKeyword implements Assertion {
 
     @Override
     public boolean isValidFor(final JsonValue instance) {
-        return !InstanceType.ARRAY.isInstance(instance) || instance.asJsonArray().size() <= maxItems.intValue();
+        return !InstanceType.ARRAY.isInstance(instance) || instance.asJsonArray().size() <= maximum();
+    }
+
+    @Override
+    public Optional<MemberEvaluation<Integer>> startArray() {
+        return Optional.of(new ItemsEvaluation());
     }
 
     @Override
     public boolean hasName(final String name) {
         return Objects.equals(NAME, name);
     }
+
+    /**
+     * @return the maximum, an array can not contain more than {@link Integer#MAX_VALUE} items
+     */
+    private int maximum() {
+        return maxItems.min(MAX_LIMIT).intValue();
+    }
+
+    /**
+     * Fails at the first item which exceeds the limit, without reading the rest of the array.
+     */
+    private final class ItemsEvaluation implements MemberEvaluation<Integer> {
+
+        @Override
+        public boolean memberStarts(final Integer index) {
+            return index < maximum();
+        }
+
+        @Override
+        public boolean isValid(final int members) {
+            return true;
+        }
+    }
 }
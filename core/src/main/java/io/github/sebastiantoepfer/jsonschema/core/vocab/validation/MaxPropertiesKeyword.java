@@ -25,11 +25,14 @@ package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
 
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.InstanceType;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.StreamableKeyword;
 import io.github.sebastiantoepfer.jsonschema.keyword.Assertion;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
 import java.math.BigInteger;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * /**
@@ -44,7 +47,7 @@ import java.util.Objects;
  * source: https://www.learnjsonschema.com/2020-12/validation/maxproperties/
  * spec: https://json-schema.org/draft/2020-12/json-schema-validation.html#section-6.5.1
  */
-final class MaxPropertiesKeyword implements Assertion {
+final class MaxPropertiesKeyword implements Assertion, StreamableKeyword {
 
     static final String NAME = "maxProperties";
     private final BigInteger maxProperties;
@@ -68,6 +71,11 @@ final class MaxPropertiesKeyword implements Assertion {
         return !InstanceType.OBJECT.isInstance(instance) || hasMaxProperties(instance.asJsonObject());
     }
 
+    @Override
+    public Optional<MemberEvaluation<String>> startObject() {
+        return Optional.of(properties -> properties <= maxProperties.intValue());
+    }
+
     private boolean hasMaxProperties(final JsonObject object) {
         return object.keySet().size() <= maxProperties.intValue();
     }
@@ -46,9 +46,12 @@ final class MaximumKeyword implements Assertion {
 
     static final String NAME = "maximum";
     private final BigDecimal max;
+    //greatest long which is not greater than max, instances with an exact long value are compared against it
+    private final long integralMax;
 
     public MaximumKeyword(final BigDecimal max) {
         this.max = Objects.requireNonNull(max);
+        this.integralMax = LongNumbers.floor(this.max);
     }
 
     @Override
@@ -63,8 +66,16 @@ final class MaximumKeyword implements Assertion {
 
     @Override
     public boolean isValidFor(final JsonValue instance) {
-        return (
-            !InstanceType.NUMBER.isInstance(instance) || max.compareTo(((JsonNumber) instance).bigDecimalValue()) >= 0
-        );
+        return !InstanceType.NUMBER.isInstance(instance) || isValidFor((JsonNumber) instance);
+    }
+
+    private boolean isValidFor(final JsonNumber number) {
+        final boolean result;
+        if (LongNumbers.hasExactLongValue(number)) {
+            result = number.longValue() <= integralMax;
+        } else {
+            result = max.compareTo(number.bigDecimalValue()) >= 0;
+        }
+        return result;
     }
 }
@@ -25,6 +25,8 @@ package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
 
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.InstanceType;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.StreamableKeyword;
 import io.github.sebastiantoepfer.jsonschema.keyword.Annotation;
 import io.github.sebastiantoepfer.jsonschema.keyword.Assertion;
 import jakarta.json.JsonArray;
@@ -33,6 +35,7 @@ import java.math.BigInteger;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * <b>minContains</b> : <i>Integer</i>
@@ -46,9 +49,10 @@ import java.util.Objects;
  * source: https://www.learnjsonschema.com/2020-12/validation/mincontains/
  * spec: https://json-schema.org/draft/2020-12/json-schema-validation.html#section-6.4.5
  */
-final class MinContainsKeyword implements Assertion {
+final class MinContainsKeyword implements Assertion, StreamableKeyword {
 
     static final String NAME = "minContains";
+    private static final BigInteger MAX_LIMIT = BigInteger.valueOf(Integer.MAX_VALUE);
     private final Collection<Annotation> affects;
     private final BigInteger minContains;
 
@@ -72,18 +76,31 @@ final class MinContainsKeyword implements Assertion {
         return (!InstanceType.ARRAY.isInstance(instance) || isValidFor(instance.asJsonArray()));
     }
 
+    @Override
+    public Optional<MemberEvaluation<Integer>> startArray() {
+        return MatchCount.schemasOf(affects).map(schemas ->
+            new MatchCount(schemas, minimum(), Integer.MAX_VALUE)
+        );
+    }
+
     private boolean isValidFor(final JsonArray instance) {
         return isValidFor(
             affects
                 .stream()
-                .map(a -> a.valueFor(instance))
-                .map(v -> new NumberOfMatches(instance, v))
-                .mapToInt(NumberOfMatches::count)
+                .map(a -> new NumberOfMatches(instance, a))
+                .mapToInt(matches -> matches.count(minimum()))
                 .sum()
         );
     }
 
     private boolean isValidFor(final int containing) {
-        return containing >= minContains.intValue();
+        return containing >= minimum();
+    }
+
+    /**
+     * @return the minimum, an array can not contain more than {@link Integer#MAX_VALUE} items
+     */
+    private int minimum() {
+        return minContains.min(MAX_LIMIT).intValue();
     }
 }
@@ -25,10 +25,13 @@ package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
 
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.InstanceType;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.StreamableKeyword;
 import io.github.sebastiantoepfer.jsonschema.keyword.Assertion;
 import jakarta.json.JsonValue;
 import java.math.BigInteger;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * <b>minItems</b> : <i>Integer</i><br/>
@@ -41,7 +44,7 @@ import java.util.Objects;
  * source: https://www.learnjsonschema.com/2020-12/validation/minitems/
  * spec: https://json-schema.org/draft/2020-12/json-schema-validation.html#section-6.4.2
  */
-final class MinItemsKeyword implements Assertion {
+final class MinItemsKeyword implements Assertion, StreamableKeyword {
 
     static final String NAME = "minItems";
     private final BigInteger minItems;
@@ -60,6 +63,11 @@ final class MinItemsKeyword implements Assertion {
         return !InstanceType.ARRAY.isInstance(instance) || instance.asJsonArray().size() >= minItems.intValue();
     }
 
+    @Override
+    public Optional<MemberEvaluation<Integer>> startArray() {
+        return Optional.of(items -> items >= minItems.intValue());
+    }
+
     @Override
     public boolean hasName(final String name) {
         return Objects.equals(NAME, name);
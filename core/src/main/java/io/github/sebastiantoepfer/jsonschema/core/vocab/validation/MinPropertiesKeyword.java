@@ -25,11 +25,14 @@ package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
 
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.InstanceType;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.StreamableKeyword;
 import io.github.sebastiantoepfer.jsonschema.keyword.Assertion;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
 import java.math.BigInteger;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * <b>minProperties</b> : <i>Integer</i>
@@ -43,7 +46,7 @@ import java.util.Objects;
  * source: https://www.learnjsonschema.com/2020-12/validation/minproperties/
  * spec: https://json-schema.org/draft/2020-12/json-schema-validation.html#section-6.5.2
  */
-final class MinPropertiesKeyword implements Assertion {
+final class MinPropertiesKeyword implements Assertion, StreamableKeyword {
 
     static final String NAME = "minProperties";
     private final BigInteger minProperties;
@@ -67,6 +70,11 @@ final class MinPropertiesKeyword implements Assertion {
         return !InstanceType.OBJECT.isInstance(instance) || hasMinProperties(instance.asJsonObject());
     }
 
+    @Override
+    public Optional<MemberEvaluation<String>> startObject() {
+        return Optional.of(properties -> properties >= minProperties.intValue());
+    }
+
     private boolean hasMinProperties(final JsonObject object) {
         return object.keySet().size() >= minProperties.intValue();
     }
@@ -46,9 +46,12 @@ final class MinimumKeyword implements Assertion {
 
     static final String NAME = "minimum";
     private final BigDecimal min;
+    //smallest long which is not less than min, instances with an exact long value are compared against it
+    private final long integralMin;
 
     public MinimumKeyword(final BigDecimal min) {
         this.min = Objects.requireNonNull(min);
+        this.integralMin = LongNumbers.ceil(this.min);
     }
 
     @Override
@@ -63,8 +66,16 @@ final class MinimumKeyword implements Assertion {
 
     @Override
     public boolean isValidFor(final JsonValue instance) {
-        return (
-            !InstanceType.NUMBER.isInstance(instance) || min.compareTo(((JsonNumber) instance).bigDecimalValue()) <= 0
-        );
+        return !InstanceType.NUMBER.isInstance(instance) || isValidFor((JsonNumber) instance);
+    }
+
+    private boolean isValidFor(final JsonNumber number) {
+        final boolean result;
+        if (LongNumbers.hasExactLongValue(number)) {
+            result = number.longValue() >= integralMin;
+        } else {
+            result = min.compareTo(number.bigDecimalValue()) <= 0;
+        }
+        return result;
     }
 }
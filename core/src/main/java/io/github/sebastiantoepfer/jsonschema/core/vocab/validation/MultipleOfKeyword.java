@@ -29,6 +29,7 @@ import io.github.sebastiantoepfer.jsonschema.keyword.Assertion;
 import jakarta.json.JsonNumber;
 import jakarta.json.JsonValue;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Objects;
 
 /**
@@ -45,10 +46,25 @@ import java.util.Objects;
 final class MultipleOfKeyword implements Assertion {
 
     static final String NAME = "multipleOf";
+    private static final int MAX_LONG_DIGITS = 18;
     private final BigDecimal multipleOf;
+    //multipleOf = unscaledMultipleOf / scaleFactor -> x is a multiple if x * scaleFactor is a multiple of unscaled
+    private final long unscaledMultipleOf;
+    private final long scaleFactor;
 
     public MultipleOfKeyword(final BigDecimal multipleOf) {
         this.multipleOf = Objects.requireNonNull(multipleOf);
+        final BigDecimal stripped = multipleOf.stripTrailingZeros();
+        final int scale = Math.max(stripped.scale(), 0);
+        final BigInteger unscaled = stripped.movePointRight(scale).toBigIntegerExact();
+        if (scale <= MAX_LONG_DIGITS && unscaled.bitLength() < Long.SIZE - 1) {
+            this.unscaledMultipleOf = unscaled.longValueExact();
+            this.scaleFactor = BigInteger.TEN.pow(scale).longValueExact();
+        } else {
+            //no fast path
+            this.unscaledMultipleOf = 0;
+            this.scaleFactor = 0;
+        }
     }
 
     @Override
@@ -62,11 +78,30 @@ final class MultipleOfKeyword implements Assertion {
     }
 
     @Override
-    @SuppressWarnings(value = "BigDecimalEquals")
     public boolean isValidFor(final JsonValue instance) {
+        return !InstanceType.NUMBER.isInstance(instance) || isValidFor((JsonNumber) instance);
+    }
+
+    private boolean isValidFor(final JsonNumber number) {
+        final boolean result;
+        if (canCheckAsLong(number)) {
+            result = (number.longValue() * scaleFactor) % unscaledMultipleOf == 0;
+        } else {
+            result = isMultipleOf(number.bigDecimalValue());
+        }
+        return result;
+    }
+
+    private boolean canCheckAsLong(final JsonNumber number) {
         return (
-            !InstanceType.NUMBER.isInstance(instance) ||
-            BigDecimal.ZERO.equals(((JsonNumber) instance).bigDecimalValue().remainder(multipleOf).stripTrailingZeros())
+            unscaledMultipleOf != 0 &&
+            LongNumbers.hasExactLongValue(number) &&
+            Math.abs(number.longValue()) <= Long.MAX_VALUE / scaleFactor
         );
     }
+
+    @SuppressWarnings(value = "BigDecimalEquals")
+    private boolean isMultipleOf(final BigDecimal number) {
+        return BigDecimal.ZERO.equals(number.remainder(multipleOf).stripTrailingZeros());
+    }
 }
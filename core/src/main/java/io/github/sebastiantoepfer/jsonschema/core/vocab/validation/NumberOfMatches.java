@@ -23,6 +23,8 @@
  */
 package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
 
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MatchCounter;
+import io.github.sebastiantoepfer.jsonschema.keyword.Annotation;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonValue;
 import java.util.Objects;
@@ -30,14 +32,25 @@ import java.util.Objects;
 final class NumberOfMatches {
 
     private final JsonArray array;
-    private final JsonValue value;
+    private final Annotation annotation;
 
-    public NumberOfMatches(final JsonArray array, final JsonValue value) {
+    public NumberOfMatches(final JsonArray array, final Annotation annotation) {
         this.array = Objects.requireNonNull(array);
-        this.value = Objects.requireNonNull(value);
+        this.annotation = Objects.requireNonNull(annotation);
     }
 
-    public int count() {
-        return value == JsonValue.TRUE ? array.size() : value.asJsonArray().size();
+    /**
+     * @param limit counting can stop as soon as this number of matches is reached
+     * @return number of matches, can be greater than limit if the annotation can not stop early
+     */
+    public int count(final int limit) {
+        final int result;
+        if (annotation instanceof MatchCounter counter) {
+            result = counter.countMatches(array, limit);
+        } else {
+            final JsonValue value = annotation.valueFor(array);
+            result = value == JsonValue.TRUE ? array.size() : value.asJsonArray().size();
+        }
+        return result;
     }
 }
@@ -26,10 +26,11 @@ package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.InstanceType;
 import io.github.sebastiantoepfer.jsonschema.keyword.Assertion;
+import io.github.sebastiantoepfer.jsonschema.vocabulary.spi.DefaultRegexEngine;
+import io.github.sebastiantoepfer.jsonschema.vocabulary.spi.Regex;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * <b>pattern</b> : <i>String</i>
@@ -45,10 +46,11 @@ import java.util.regex.Pattern;
 final class PatternKeyword implements Assertion {
 
     static final String NAME = "pattern";
-    private final Pattern pattern;
+    private static final DefaultRegexEngine REGEX_ENGINE = DefaultRegexEngine.shared();
+    private final Regex pattern;
 
     public PatternKeyword(final String value) {
-        this.pattern = Pattern.compile(value);
+        this.pattern = REGEX_ENGINE.compileOrFail(value);
     }
 
     @Override
@@ -63,6 +65,6 @@ final class PatternKeyword implements Assertion {
 
     @Override
     public boolean isValidFor(final JsonValue instance) {
-        return !InstanceType.STRING.isInstance(instance) || pattern.matcher(((JsonString) instance).getString()).find();
+        return !InstanceType.STRING.isInstance(instance) || pattern.find(((JsonString) instance).getString());
     }
 }
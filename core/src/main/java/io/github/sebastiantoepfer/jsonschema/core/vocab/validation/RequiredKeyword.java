@@ -25,11 +25,15 @@ package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
 
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.InstanceType;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.StreamableKeyword;
 import io.github.sebastiantoepfer.jsonschema.keyword.Assertion;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -41,7 +45,7 @@ import java.util.Set;
  * source: https://www.learnjsonschema.com/2020-12/validation/required/
  * spec: https://json-schema.org/draft/2020-12/json-schema-validation.html#section-6.5.3
  */
-final class RequiredKeyword implements Assertion {
+final class RequiredKeyword implements Assertion, StreamableKeyword {
 
     static final String NAME = "required";
     private final Set<String> required;
@@ -60,6 +64,11 @@ final class RequiredKeyword implements Assertion {
         return !InstanceType.OBJECT.isInstance(instance) || hasAllRequiredProperties(instance.asJsonObject());
     }
 
+    @Override
+    public Optional<MemberEvaluation<String>> startObject() {
+        return Optional.of(new MissingProperties(required));
+    }
+
     private boolean hasAllRequiredProperties(final JsonObject instance) {
         return required.stream().allMatch(instance.keySet()::contains);
     }
@@ -68,4 +77,24 @@ final class RequiredKeyword implements Assertion {
     public boolean hasName(final String name) {
         return Objects.equals(NAME, name);
     }
+
+    private static final class MissingProperties implements MemberEvaluation<String> {
+
+        private final Set<String> missing;
+
+        MissingProperties(final Collection<String> required) {
+            this.missing = new HashSet<>(required);
+        }
+
+        @Override
+        public boolean memberStarts(final String name) {
+            missing.remove(name);
+            return true;
+        }
+
+        @Override
+        public boolean isValid(final int members) {
+            return missing.isEmpty();
+        }
+    }
 }
@@ -26,6 +26,8 @@ package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.InstanceType;
 import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.StreamableKeyword;
 import io.github.sebastiantoepfer.jsonschema.keyword.Assertion;
 import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
 import io.github.sebastiantoepfer.jsonschema.keyword.KeywordType;
@@ -34,6 +36,7 @@ import jakarta.json.JsonValue;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * see: https://json-schema.org/understanding-json-schema/reference/type.html
@@ -74,7 +77,7 @@ final class TypeKeywordType implements KeywordType {
      * source: https://www.learnjsonschema.com/2020-12/validation/type/
      * spec: https://json-schema.org/draft/2020-12/json-schema-validation.html#section-6.1.1
      */
-    private final class TypeKeyword implements Assertion {
+    private final class TypeKeyword implements Assertion, StreamableKeyword {
 
         private final Collection<String> allowedTypes;
 
@@ -106,5 +109,37 @@ final class TypeKeywordType implements KeywordType {
                 .map(InstanceType::fromString)
                 .anyMatch(instanceType -> instanceType.isInstance(instance));
         }
+
+        @Override
+        public Optional<MemberEvaluation<String>> startObject() {
+            return Optional.of(new TypeEvaluation<>(isValidFor(JsonValue.EMPTY_JSON_OBJECT)));
+        }
+
+        @Override
+        public Optional<MemberEvaluation<Integer>> startArray() {
+            return Optional.of(new TypeEvaluation<>(isValidFor(JsonValue.EMPTY_JSON_ARRAY)));
+        }
+    }
+
+    /**
+     * The type is known at the start of the instance, a wrong type fails before the first member is read.
+     */
+    private static final class TypeEvaluation<M> implements MemberEvaluation<M> {
+
+        private final boolean allowed;
+
+        TypeEvaluation(final boolean allowed) {
+            this.allowed = allowed;
+        }
+
+        @Override
+        public boolean memberStarts(final M member) {
+            return allowed;
+        }
+
+        @Override
+        public boolean isValid(final int members) {
+            return allowed;
+        }
     }
 }
@@ -25,14 +25,17 @@ package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
 
 import io.github.sebastiantoepfer.ddd.common.Media;
 import io.github.sebastiantoepfer.jsonschema.InstanceType;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.MemberEvaluation;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.StreamableKeyword;
 import io.github.sebastiantoepfer.jsonschema.keyword.Assertion;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonNumber;
+import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import jakarta.json.JsonValue.ValueType;
-import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -47,7 +50,7 @@ import java.util.Set;
  * source: https://www.learnjsonschema.com/2020-12/validation/uniqueitems/
  * spec: https://json-schema.org/draft/2020-12/json-schema-validation.html#section-6.4.3
  */
-final class UniqueItemsKeyword implements Assertion {
+final class UniqueItemsKeyword implements Assertion, StreamableKeyword {
 
     static final String NAME = "uniqueItems";
     private final boolean unique;
@@ -70,6 +73,21 @@ final class UniqueItemsKeyword implements Assertion {
         );
     }
 
+    /**
+     * Unique items must be compared with all items before, only uniqueItems=false can be evaluated while the array is
+     * read.
+     */
+    @Override
+    public Optional<MemberEvaluation<Integer>> startArray() {
+        final Optional<MemberEvaluation<Integer>> result;
+        if (unique) {
+            result = Optional.empty();
+        } else {
+            result = Optional.of(items -> true);
+        }
+        return result;
+    }
+
     @Override
     public boolean hasName(final String name) {
         return Objects.equals(NAME, name);
@@ -83,64 +101,39 @@ final class UniqueItemsKeyword implements Assertion {
             this.values = Objects.requireNonNull(values);
         }
 
+        /**
+         * Arrays of strings and of integers (the common cases for ids) are checked without wrapping the values, all
+         * other arrays are checked by the canonical form of the values. Each check ends at the first duplicate.
+         */
         public boolean areAllElementsUnique() {
-            final Set<JsonValueNumberEqualsFix> uniqueValues = new HashSet<>();
-            return values.stream().map(JsonValueNumberEqualsFix::new).allMatch(uniqueValues::add);
-        }
-    }
-
-    /*
-    bad class name :( ->
-    we must override equals for numbers. 1.0 and 1.00 must be equals.
-    but neither new BigDecimal("1.0").equals(new BigDecimal("1.00")
-    nor Json.create(new BigDecimal("1.0")).equals(Json.create(new BigDecimal("1.00"))
-    are.
-     */
-    static class JsonValueNumberEqualsFix {
-
-        private final JsonValue value;
-
-        public JsonValueNumberEqualsFix(final JsonValue value) {
-            this.value = value;
-        }
-
-        @Override
-        public int hashCode() {
-            final int result;
-            if (isNumber()) {
-                result = normalizeValue().hashCode();
+            final boolean result;
+            if (values.stream().allMatch(v -> v.getValueType() == ValueType.STRING)) {
+                result = areAllStringsUnique();
+            } else if (values.stream().allMatch(JsonArrayChecks::hasExactLongValue)) {
+                result = areAllIntegersUnique();
             } else {
-                result = value.hashCode();
+                final Set<CanonicalJsonValue> uniqueValues = new HashSet<>();
+                result = values.stream().map(CanonicalJsonValue::new).allMatch(uniqueValues::add);
             }
             return result;
         }
 
-        @Override
-        public boolean equals(final Object obj) {
-            return (
-                this == obj || (obj != null && getClass() == obj.getClass() && isEquals((JsonValueNumberEqualsFix) obj))
-            );
-        }
-
-        @SuppressWarnings("BigDecimalEquals")
-        private boolean isEquals(final JsonValueNumberEqualsFix other) {
-            final boolean result;
-            if (isNumber() && other.isNumber()) {
-                result = normalizeValue().equals(other.normalizeValue());
-            } else if (isNumber()) {
-                result = false;
-            } else {
-                result = value.equals(other.value);
-            }
-            return result;
+        private boolean areAllStringsUnique() {
+            final Set<String> uniqueValues = new HashSet<>();
+            return values.stream().map(JsonString.class::cast).map(JsonString::getString).allMatch(uniqueValues::add);
         }
 
-        private BigDecimal normalizeValue() {
-            return ((JsonNumber) value).bigDecimalValue().stripTrailingZeros();
+        private boolean areAllIntegersUnique() {
+            final LongHashSet uniqueValues = new LongHashSet(values.size());
+            return values
+                .stream()
+                .map(JsonNumber.class::cast)
+                .mapToLong(JsonNumber::longValue)
+                .allMatch(uniqueValues::add);
         }
 
-        private boolean isNumber() {
-            return value.getValueType() == ValueType.NUMBER;
+        private static boolean hasExactLongValue(final JsonValue value) {
+            return value.getValueType() == ValueType.NUMBER && LongNumbers.hasExactLongValue((JsonNumber) value);
         }
     }
 }
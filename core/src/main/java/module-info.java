@@ -33,6 +33,8 @@ module io.github.sebastiantoepfer.jsonschema.core {
 
     requires com.github.spotbugs.annotations;
 
+    uses io.github.sebastiantoepfer.jsonschema.spi.SchemaLoader;
+
     provides io.github.sebastiantoepfer.jsonschema.spi.JsonSchemaFactory
         with io.github.sebastiantoepfer.jsonschema.core.DefaultJsonSchemaFactory;
 
@@ -31,6 +31,7 @@ import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import io.github.sebastiantoepfer.ddd.media.core.HashMapMedia;
@@ -96,6 +97,19 @@ class DefaultJsonObjectSchemaTest {
         );
     }
 
+    @Test
+    void should_create_keywords_only_once() {
+        assertThat(
+            schema.keywordByName("items").orElseThrow(),
+            is(sameInstance(schema.keywordByName("items").orElseThrow()))
+        );
+    }
+
+    @Test
+    void should_reuse_validator() {
+        assertThat(schema.validator(), is(sameInstance(schema.validator())));
+    }
+
     @Test
     void should_return_empty_for_non_existing_keyword() {
         assertThat(
@@ -141,6 +155,19 @@ class DefaultJsonObjectSchemaTest {
         );
     }
 
+    @Test
+    void should_evaluate_keywords_which_depends_on_other_keywords_of_the_same_schema() {
+        final DefaultJsonObjectSchema containsSchema = new DefaultJsonObjectSchema(
+            Json.createObjectBuilder()
+                .add("contains", Json.createObjectBuilder().add("type", "integer"))
+                .add("minContains", 2)
+                .build()
+        );
+
+        assertThat(containsSchema.applyTo(Json.createArrayBuilder().add(1).add("a").build()), is(false));
+        assertThat(containsSchema.validator().isValid(Json.createArrayBuilder().add(1).add(2).build()), is(true));
+    }
+
     @Test
     void should_be_printable() {
         assertThat(schema.printOn(new HashMapMedia()), allOf(hasEntry("type", "array"), hasKey("items")));
@@ -0,0 +1,78 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class EvaluationCostTest {
+
+    private final DefaultJsonObjectSchema schema = new DefaultJsonObjectSchema(
+        Json.createObjectBuilder()
+            .add("oneOf", Json.createArrayBuilder().add(JsonValue.TRUE))
+            .add("pattern", "^a")
+            .add("enum", Json.createArrayBuilder().add("a"))
+            .add("x-custom", 1)
+            .add("maxLength", 3)
+            .add("type", "string")
+            .build()
+    );
+
+    @Test
+    void should_order_keywords_by_cost() {
+        assertThat(
+            Stream.of("oneOf", "pattern", "enum", "x-custom", "maxLength", "type")
+                .map(schema::keywordByName)
+                .flatMap(Optional::stream)
+                .sorted(new EvaluationCost(k -> KeywordProfile.ofDialectKeyword(nameOf(k))))
+                .map(EvaluationCostTest::nameOf)
+                .toList(),
+            contains("maxLength", "type", "enum", "pattern", "x-custom", "oneOf")
+        );
+    }
+
+    @Test
+    void should_not_change_the_result_of_a_validation() {
+        assertThat(schema.applyTo(Json.createValue("abcd")), is(false));
+        assertThat(schema.applyTo(Json.createValue("a")), is(true));
+        assertThat(schema.validator().isValid(Json.createValue("b")), is(false));
+    }
+
+    private static String nameOf(final Keyword keyword) {
+        return List.of("oneOf", "pattern", "enum", "x-custom", "maxLength", "type")
+            .stream()
+            .filter(keyword::hasName)
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class InstanceTypeDispatchTest {
+
+    private static final List<String> NAMES = List.of("maxLength", "minimum", "required", "items", "enum");
+    private final DefaultJsonObjectSchema schema = new DefaultJsonObjectSchema(
+        Json.createObjectBuilder()
+            .add("maxLength", 2)
+            .add("minimum", 1)
+            .add("required", Json.createArrayBuilder().add("a"))
+            .add("items", JsonValue.TRUE)
+            .add("enum", Json.createArrayBuilder().add("a").add(2).add(JsonValue.NULL))
+            .build()
+    );
+    private final InstanceTypeDispatch dispatch = new InstanceTypeDispatch(
+        NAMES.stream().map(schema::keywordByName).flatMap(Optional::stream).toList(),
+        k -> KeywordProfile.ofDialectKeyword(nameOf(k))
+    );
+
+    @Test
+    void should_only_dispatch_string_keywords_and_typeless_keywords_for_strings() {
+        assertThat(namesOf(dispatch.keywordsFor(JsonValue.ValueType.STRING)), contains("maxLength", "enum"));
+    }
+
+    @Test
+    void should_only_dispatch_number_keywords_and_typeless_keywords_for_numbers() {
+        assertThat(namesOf(dispatch.keywordsFor(JsonValue.ValueType.NUMBER)), contains("minimum", "enum"));
+    }
+
+    @Test
+    void should_only_dispatch_typeless_keywords_for_null() {
+        assertThat(namesOf(dispatch.keywordsFor(JsonValue.ValueType.NULL)), contains("enum"));
+    }
+
+    @Test
+    void should_validate_every_type_against_its_keywords() {
+        assertThat(schema.applyTo(Json.createValue("a")), is(true));
+        assertThat(schema.applyTo(Json.createValue(2)), is(true));
+        assertThat(schema.applyTo(JsonValue.NULL), is(true));
+        assertThat(schema.validator().isValid(Json.createValue(0)), is(false));
+        assertThat(schema.validator().isValid(Json.createValue("b")), is(false));
+    }
+
+    private static List<String> namesOf(final List<Keyword> keywords) {
+        return keywords.stream().map(InstanceTypeDispatchTest::nameOf).toList();
+    }
+
+    private static String nameOf(final Keyword keyword) {
+        return NAMES.stream().filter(keyword::hasName).findFirst().orElseThrow();
+    }
+}
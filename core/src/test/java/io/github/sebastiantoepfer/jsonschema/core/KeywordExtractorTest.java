@@ -0,0 +1,87 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import org.junit.jupiter.api.Test;
+
+class KeywordExtractorTest {
+
+    @Test
+    void should_resolve_same_vocabularies_only_once() {
+        assertThat(
+            new KeywordExtractor(
+                new DefaultJsonObjectSchema(
+                    Json.createObjectBuilder()
+                        .add(
+                            "$vocabulary",
+                            Json.createObjectBuilder()
+                                .add("https://json-schema.org/draft/2020-12/vocab/core", true)
+                                .add("https://json-schema.org/draft/2020-12/vocab/validation", true)
+                        )
+                        .build()
+                )
+            ).createKeywords(),
+            is(
+                sameInstance(
+                    new KeywordExtractor(
+                        new DefaultJsonObjectSchema(
+                            Json.createObjectBuilder()
+                                .add("type", "string")
+                                .add(
+                                    "$vocabulary",
+                                    Json.createObjectBuilder()
+                                        .add("https://json-schema.org/draft/2020-12/vocab/validation", true)
+                                        .add("https://json-schema.org/draft/2020-12/vocab/core", true)
+                                )
+                                .build()
+                        )
+                    ).createKeywords()
+                )
+            )
+        );
+    }
+
+    @Test
+    void should_use_default_vocabularies_without_vocabulary_declaration() {
+        assertThat(
+            new KeywordExtractor(new DefaultJsonObjectSchema(JsonValue.EMPTY_JSON_OBJECT)).createKeywords(),
+            is(sameInstance(new KeywordExtractor(new EmptyJsonSchema()).createKeywords()))
+        );
+    }
+
+    @Test
+    void should_not_accept_non_object_vocabulary_declaration() {
+        final KeywordExtractor extractor = new KeywordExtractor(
+            new DefaultJsonObjectSchema(Json.createObjectBuilder().add("$vocabulary", "core").build())
+        );
+        assertThrows(IllegalArgumentException.class, extractor::createKeywords);
+    }
+}
@@ -29,9 +29,13 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
 import io.github.sebastiantoepfer.jsonschema.Vocabulary;
 import io.github.sebastiantoepfer.jsonschema.core.vocab.core.CoreVocabulary;
+import io.github.sebastiantoepfer.jsonschema.vocabulary.spi.ListVocabulary;
 import io.github.sebastiantoepfer.jsonschema.vocabulary.spi.VocabularyDefinition;
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
 import jakarta.json.spi.JsonProvider;
 import java.net.URI;
 import java.util.Collection;
@@ -66,10 +70,41 @@ class KeywordsTest {
         );
     }
 
+    @Test
+    void should_create_unknown_keywords_for_every_name() {
+        final Keywords keywords = new Keywords(List.of());
+        final JsonSchema schema = new DefaultJsonObjectSchema(
+            Json.createObjectBuilder().add("x-first", 1).add("x-second", 2).build()
+        );
+
+        assertThat(keywords.createKeywordFor(schema, "x-first").hasName("x-first"), is(true));
+        assertThat(keywords.createKeywordFor(schema, "x-second").hasName("x-second"), is(true));
+        assertThat(keywords.createKeywordFor(schema, "x-first").hasName("x-first"), is(true));
+    }
+
+    @Test
+    void should_know_profile_of_dialect_keywords() {
+        final Keywords keywords = new Keywords(List.of());
+
+        assertThat(keywords.profileFor("maxLength").cost(), is(0));
+        assertThat(keywords.profileFor("maxLength").constrains(JsonValue.ValueType.NUMBER), is(false));
+    }
+
+    @Test
+    void should_not_use_dialect_profile_for_keyword_of_other_vocabulary() {
+        final URI id = URI.create("https://example.com/vocab/custom");
+        final Keywords keywords = new Keywords(
+            List.of(new TestVocabularyDefinition(id, new ListVocabulary(id, new UnknowKeywordType("maxLength"))))
+        );
+
+        assertThat(keywords.profileFor("maxLength"), is(KeywordProfile.UNKNOWN));
+    }
+
     private static final class TestVocabularyDefinition implements VocabularyDefinition {
 
         private final URI id;
         private final boolean required;
+        private final Optional<Vocabulary> vocabulary;
 
         public TestVocabularyDefinition(final URI id) {
             this(id, false);
@@ -78,11 +113,18 @@ class KeywordsTest {
         public TestVocabularyDefinition(final URI id, final boolean required) {
             this.id = id;
             this.required = required;
+            this.vocabulary = Optional.empty();
+        }
+
+        public TestVocabularyDefinition(final URI id, final Vocabulary vocabulary) {
+            this.id = id;
+            this.required = false;
+            this.vocabulary = Optional.of(vocabulary);
         }
 
         @Override
         public Optional<Vocabulary> findVocabulary() {
-            return Optional.empty();
+            return vocabulary;
         }
 
         @Override
@@ -0,0 +1,143 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core;
+
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isEmpty;
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresentAnd;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+
+class SchemaIndexTest {
+
+    private final JsonSchema root = new DefaultJsonSchemaFactory().create(
+        Json.createObjectBuilder()
+            .add("$id", "https://example.com/root.json")
+            .add(
+                "$defs",
+                Json.createObjectBuilder()
+                    .add("integer", Json.createObjectBuilder().add("type", "integer"))
+                    .add("anchored", Json.createObjectBuilder().add("$anchor", "name").add("type", "string"))
+                    .add("embedded", Json.createObjectBuilder().add("$id", "other.json").add("type", "boolean"))
+                    .add(
+                        "nested",
+                        Json.createObjectBuilder()
+                            .add("$id", "nested/resource.json")
+                            .add("$defs", Json.createObjectBuilder().add("integer", JsonValue.TRUE))
+                    )
+                    .add("default", Json.createObjectBuilder().add("$anchor", "named-like-keyword"))
+            )
+            .add("enum", Json.createArrayBuilder().add(Json.createObjectBuilder().add("$anchor", "value")))
+            .build()
+    );
+    private final SchemaIndex index = new SchemaIndex(root).build();
+
+    @Test
+    void should_find_root_schema() {
+        assertThat(index.schemaFor(URI.create("#")), isPresentAnd(sameInstance(root)));
+    }
+
+    @Test
+    void should_find_root_schema_by_id() {
+        assertThat(
+            index.schemaFor(URI.create("https://example.com/root.json")),
+            isPresentAnd(sameInstance(root))
+        );
+    }
+
+    @Test
+    void should_find_schema_by_pointer() {
+        final JsonSchema schema = index.schemaFor(URI.create("#/$defs/integer")).orElseThrow();
+
+        assertThat(schema.applyTo(Json.createValue(1)), is(true));
+        assertThat(schema.applyTo(Json.createValue("1")), is(false));
+    }
+
+    @Test
+    void should_return_same_schema_for_every_lookup() {
+        assertThat(
+            index.schemaFor(URI.create("#/$defs/integer")).orElseThrow(),
+            is(sameInstance(index.schemaFor(URI.create("#/$defs/integer")).orElseThrow()))
+        );
+    }
+
+    @Test
+    void should_find_schema_by_anchor() {
+        final JsonSchema schema = index.schemaFor(URI.create("#name")).orElseThrow();
+
+        assertThat(schema.applyTo(Json.createValue("1")), is(true));
+        assertThat(schema.applyTo(Json.createValue(1)), is(false));
+    }
+
+    @Test
+    void should_find_schema_by_embedded_id() {
+        final JsonSchema schema = index.schemaFor(URI.create("https://example.com/other.json")).orElseThrow();
+
+        assertThat(schema.applyTo(Json.createValue(true)), is(true));
+        assertThat(schema.applyTo(Json.createValue(1)), is(false));
+    }
+
+    @Test
+    void should_resolve_reference_against_nearest_embedded_resource() {
+        final JsonSchema nested = index.schemaFor(URI.create("https://example.com/nested/resource.json")).orElseThrow();
+
+        assertThat(
+            index.schemaFor(nested, URI.create("#/$defs/integer")),
+            isPresentAnd(is(sameInstance(index.schemaFor(URI.create("#/$defs/nested/$defs/integer")).orElseThrow())))
+        );
+        assertThat(
+            index.resolve(nested, URI.create("other.json")),
+            is(URI.create("https://example.com/nested/other.json"))
+        );
+    }
+
+    @Test
+    void should_resolve_reference_of_root_resource_against_root() {
+        final JsonSchema integer = index.schemaFor(URI.create("#/$defs/integer")).orElseThrow();
+
+        assertThat(index.resolve(integer, URI.create("other.json")), is(URI.create("https://example.com/other.json")));
+    }
+
+    @Test
+    void should_find_definitions_named_like_non_schema_keywords() {
+        assertThat(index.schemaFor(URI.create("#named-like-keyword")), isPresentAnd(is(notNullValue())));
+    }
+
+    @Test
+    void should_ignore_anchors_in_non_schema_values() {
+        assertThat(index.schemaFor(URI.create("#value")), isEmpty());
+    }
+
+    @Test
+    void should_return_empty_for_unknown_schema() {
+        assertThat(index.schemaFor(URI.create("https://example.com/unknown.json")), isEmpty());
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class StreamingEvaluationTest {
+
+    static Stream<Arguments> schemasAndInstances() {
+        return Stream.of(
+            Arguments.of("{\"type\":\"object\",\"required\":[\"a\"]}", "{\"b\":1,\"a\":[1,2]}"),
+            Arguments.of("{\"type\":\"object\",\"required\":[\"a\"]}", "{\"b\":1}"),
+            Arguments.of("{\"type\":\"string\"}", "{\"a\":1}"),
+            Arguments.of("{\"type\":\"array\"}", "[]"),
+            Arguments.of("{\"minProperties\":2,\"maxProperties\":3}", "{\"a\":1}"),
+            Arguments.of("{\"minProperties\":2,\"maxProperties\":3}", "{\"a\":1,\"b\":2}"),
+            Arguments.of("{\"minProperties\":2,\"maxProperties\":3}", "{\"a\":1,\"b\":2,\"c\":3,\"d\":4}"),
+            Arguments.of("{\"properties\":{\"a\":{\"type\":\"integer\"}}}", "{\"b\":[1,{\"c\":3}],\"a\":1}"),
+            Arguments.of("{\"properties\":{\"a\":{\"type\":\"integer\"}}}", "{\"a\":\"1\",\"b\":[1,{\"c\":3}]}"),
+            Arguments.of("{\"properties\":{\"a\":{\"properties\":{\"b\":false}}}}", "{\"a\":{\"b\":{\"c\":1}}}"),
+            Arguments.of("{\"patternProperties\":{\"^x\":{\"maximum\":1},\"y$\":{\"minimum\":0}}}", "{\"xy\":1}"),
+            Arguments.of("{\"patternProperties\":{\"^x\":{\"maximum\":1},\"y$\":{\"minimum\":0}}}", "{\"xy\":-1}"),
+            Arguments.of(
+                "{\"properties\":{\"a\":true},\"patternProperties\":{\"^b\":true},\"additionalProperties\":false}",
+                "{\"a\":[1],\"bc\":{}}"
+            ),
+            Arguments.of(
+                "{\"properties\":{\"a\":true},\"patternProperties\":{\"^b\":true},\"additionalProperties\":false}",
+                "{\"a\":[1],\"c\":{}}"
+            ),
+            Arguments.of("{\"propertyNames\":{\"maxLength\":2}}", "{\"ab\":{\"abc\":1}}"),
+            Arguments.of("{\"propertyNames\":{\"maxLength\":2}}", "{\"abc\":1}"),
+            Arguments.of("{\"prefixItems\":[{\"type\":\"string\"}],\"items\":{\"type\":\"integer\"}}", "[\"a\",1,2]"),
+            Arguments.of(
+                "{\"prefixItems\":[{\"type\":\"string\"}],\"items\":{\"type\":\"integer\"}}",
+                "[\"a\",1,\"b\"]"
+            ),
+            Arguments.of("{\"prefixItems\":[{\"type\":\"string\"}]}", "[\"a\",[1],{}]"),
+            Arguments.of("{\"minItems\":1,\"maxItems\":2}", "[]"),
+            Arguments.of("{\"minItems\":1,\"maxItems\":2}", "[[1,2,3],{}]"),
+            Arguments.of("{\"minItems\":1,\"maxItems\":2}", "[1,2,3]"),
+            Arguments.of("{\"contains\":{\"type\":\"integer\"}}", "[{\"a\":[1,2]},[\"x\"],1,{}]"),
+            Arguments.of(
+                "{\"contains\":{\"type\":\"object\",\"required\":[\"a\"]}}",
+                "[{\"b\":[1]},{\"c\":{\"d\":1}}]"
+            ),
+            Arguments.of("{\"items\":{\"uniqueItems\":true}}", "[[1,2],[1,1]]"),
+            Arguments.of("{\"uniqueItems\":false,\"items\":{\"type\":\"integer\"}}", "[1,1]"),
+            Arguments.of("{\"contains\":{\"type\":\"integer\"},\"minContains\":2}", "[1,\"a\",{\"b\":1}]"),
+            Arguments.of("{\"contains\":{\"type\":\"integer\"},\"minContains\":2}", "[1,\"a\",2,[3]]"),
+            Arguments.of("{\"contains\":{\"type\":\"integer\"},\"maxContains\":1}", "[1,\"a\",2]"),
+            Arguments.of("{\"contains\":{\"type\":\"integer\"},\"maxContains\":1}", "[\"a\",2]"),
+            Arguments.of("{\"contains\":{\"type\":\"integer\"},\"maxContains\":1}", "[\"a\"]"),
+            Arguments.of(
+                "{\"contains\":{\"type\":\"integer\"},\"minContains\":1,\"maxContains\":2}",
+                "[[1],1,2,\"a\",3]"
+            ),
+            Arguments.of("{\"contains\":{\"type\":\"integer\"},\"minContains\":0}", "[\"a\"]"),
+            Arguments.of("{\"allOf\":[{\"required\":[\"a\"]}]}", "{\"a\":{\"b\":1}}"),
+            Arguments.of(
+                "{\"required\":[\"id\"],\"properties\":{\"metadata\":{},\"html\":true}}",
+                "{\"metadata\":{\"a\":[1,{\"b\":null}]},\"html\":\"<p>\",\"id\":1}"
+            ),
+            Arguments.of(
+                "{\"properties\":{\"a\":true},\"patternProperties\":{\"^a\":{\"type\":\"integer\"}}}",
+                "{\"a\":\"x\"}"
+            ),
+            Arguments.of("{\"items\":{},\"maxItems\":1}", "[{\"a\":1},2]"),
+            Arguments.of("{\"contains\":true,\"maxContains\":1}", "[{},[]]"),
+            Arguments.of("{\"contains\":true,\"maxContains\":1}", "[{\"a\":[1]}]")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("schemasAndInstances")
+    void should_have_same_result_as_evaluation_of_the_read_instance(final String schema, final String instance) {
+        final JsonSchema jsonSchema = schemaOf(schema);
+
+        assertThat(
+            jsonSchema.applyTo(parserOf(instance)),
+            is(jsonSchema.applyTo(Json.createReader(new StringReader(instance)).readValue()))
+        );
+    }
+
+    @Test
+    void should_stop_reading_at_first_invalid_item() {
+        final JsonParser parser = parserOf("[1,\"a\",2,3]");
+
+        assertThat(schemaOf("{\"items\":{\"type\":\"integer\"}}").applyTo(parser), is(false));
+        assertThat(parser.next(), is(JsonParser.Event.VALUE_NUMBER));
+        assertThat(parser.getInt(), is(2));
+    }
+
+    @Test
+    void should_stop_reading_at_first_invalid_additional_property() {
+        final JsonParser parser = parserOf("{\"a\":1,\"b\":2,\"c\":3}");
+
+        assertThat(
+            schemaOf("{\"properties\":{\"a\":{\"type\":\"integer\"}},\"additionalProperties\":false}").applyTo(parser),
+            is(false)
+        );
+        assertThat(parser.next(), is(JsonParser.Event.KEY_NAME));
+        assertThat(parser.getString(), is("c"));
+    }
+
+    @Test
+    void should_read_whole_instance_if_valid() {
+        final JsonParser parser = parserOf("{\"a\":[1,{\"b\":2}],\"c\":\"d\"}");
+
+        assertThat(schemaOf("{\"required\":[\"c\"]}").applyTo(parser), is(true));
+        assertThat(parser.hasNext(), is(false));
+    }
+
+    @Test
+    void should_continue_after_not_matching_contains_item() {
+        final JsonParser parser = parserOf("[[{\"a\":{\"x\":1},\"b\":2},{}],[{}]]");
+
+        assertThat(
+            schemaOf("{\"items\":{\"contains\":{\"type\":\"object\",\"propertyNames\":false}}}").applyTo(parser),
+            is(true)
+        );
+        assertThat(parser.hasNext(), is(false));
+    }
+
+    @Test
+    void should_stop_reading_at_first_item_exceeding_max_contains() {
+        final JsonParser parser = parserOf("[1,\"a\",2,3]");
+
+        assertThat(
+            schemaOf("{\"contains\":{\"type\":\"integer\"},\"maxContains\":1}").applyTo(parser),
+            is(false)
+        );
+        assertThat(parser.next(), is(JsonParser.Event.VALUE_NUMBER));
+        assertThat(parser.getInt(), is(3));
+    }
+
+    @Test
+    void should_validate_array_item_by_item() {
+        final JsonSchema itemsSchema = schemaOf(
+            "{\"type\":\"array\",\"minItems\":1,\"maxItems\":200000,\"contains\":{\"required\":[\"last\"]}," +
+            "\"items\":{\"type\":\"object\",\"required\":[\"id\"],\"properties\":{\"id\":{\"minimum\":0}}}}"
+        );
+
+        assertThat(itemsSchema.applyTo(Json.createParser(new GeneratedArray(200_000))), is(true));
+        assertThat(itemsSchema.applyTo(Json.createParser(new GeneratedArray(200_001))), is(false));
+    }
+
+    @Test
+    void should_stop_reading_huge_array_at_first_invalid_item() {
+        final GeneratedArray array = new GeneratedArray(10_000_000);
+        final JsonParser parser = Json.createParser(array);
+
+        assertThat(
+            schemaOf("{\"items\":{\"required\":[\"id\"],\"properties\":{\"id\":{\"maximum\":10}}}}").applyTo(parser),
+            is(false)
+        );
+        assertThat(parser.next(), is(JsonParser.Event.END_OBJECT));
+        assertThat(parser.next(), is(JsonParser.Event.START_OBJECT));
+        assertThat(parser.next(), is(JsonParser.Event.KEY_NAME));
+        assertThat(parser.next(), is(JsonParser.Event.VALUE_NUMBER));
+        assertThat(parser.getInt(), is(12));
+        //only the items in the buffer of the parser were created
+        assertThat(array.createdItems(), is(lessThan(10_000)));
+    }
+
+    @Test
+    void should_stream_value_which_is_also_described_by_an_unconstrained_schema() {
+        final JsonParser parser = parserOf("{\"a\":[1,\"x\",2,3]}");
+
+        assertThat(
+            schemaOf("{\"properties\":{\"a\":true},\"patternProperties\":{\"^a\":{\"items\":{\"type\":\"integer\"}}}}")
+                .applyTo(parser),
+            is(false)
+        );
+        assertThat(parser.next(), is(JsonParser.Event.VALUE_NUMBER));
+        assertThat(parser.getInt(), is(2));
+    }
+
+    @Test
+    void should_only_check_syntax_of_unconstrained_subtrees_of_a_document() {
+        final JsonSchema schema = schemaOf("{\"required\":[\"id\"],\"properties\":{\"metadata\":true}}");
+
+        assertThat(schema.applyToDocument(new StringReader("{\"metadata\":{\"a\":[true]},\"id\":1}")), is(true));
+        assertThat(schema.applyToDocument(new StringReader("{\"metadata\":{\"a\":[tru]},\"id\":1}")), is(false));
+        assertThat(schema.applyToDocument(new StringReader("{\"metadata\":{},\"id\":1} {}")), is(false));
+    }
+
+    @Test
+    void should_reject_grammar_errors_in_unconstrained_subtrees_of_a_document() {
+        final JsonSchema schema = schemaOf("{\"required\":[\"id\"],\"properties\":{\"metadata\":true}}");
+
+        assertThat(schema.applyToDocument(new StringReader("{\"metadata\":{\"a\" 1 2},\"id\":1}")), is(false));
+        assertThat(schema.applyToDocument(new StringReader("{\"metadata\":[1 2],\"id\":1}")), is(false));
+        assertThat(
+            schema
+                .failuresOfDocuments(List.of("{\"id\":1}", "{\"metadata\":{\"a\" 1 2},\"id\":1}"))
+                .stream()
+                .boxed()
+                .toList(),
+            contains(1)
+        );
+    }
+
+    @Test
+    void should_be_invalid_for_false_schema() {
+        assertThat(new FalseJsonSchema().applyTo(parserOf("{\"a\":1}")), is(false));
+    }
+
+    @Test
+    void should_be_valid_for_true_schema() {
+        final JsonParser parser = parserOf("[{\"a\":1}]");
+
+        assertThat(new TrueJsonSchema().applyTo(parser), is(true));
+        assertThat(parser.hasNext(), is(false));
+    }
+
+    /**
+     * Array of objects, which is created while it is read: [{"id":0},{"id":1},...,{"id":n,"last":true}]
+     */
+    private static final class GeneratedArray extends Reader {
+
+        private final int size;
+        private int next;
+        private String pending = "[";
+
+        GeneratedArray(final int size) {
+            this.size = size;
+        }
+
+        @Override
+        public int read(final char[] chars, final int offset, final int length) {
+            if (pending.isEmpty() && next < size) {
+                pending = nextItem();
+            }
+            final int result;
+            if (pending.isEmpty()) {
+                result = -1;
+            } else {
+                result = Math.min(length, pending.length());
+                pending.getChars(0, result, chars, offset);
+                pending = pending.substring(result);
+            }
+            return result;
+        }
+
+        private String nextItem() {
+            final String result;
+            if (next == size - 1) {
+                result = "{\"id\":" + next + ",\"last\":true}]";
+            } else {
+                result = "{\"id\":" + next + "},";
+            }
+            next++;
+            return result;
+        }
+
+        int createdItems() {
+            return next;
+        }
+
+        @Override
+        public void close() {
+            //nothing to close
+        }
+    }
+
+    private static JsonSchema schemaOf(final String schema) {
+        final JsonValue value = Json.createReader(new StringReader(schema)).readValue();
+        return new DefaultJsonSchemaFactory().create(value);
+    }
+
+    private static JsonParser parserOf(final String instance) {
+        return Json.createParser(new StringReader(instance));
+    }
+}
@@ -23,6 +23,8 @@
  */
 package io.github.sebastiantoepfer.jsonschema.core.vocab.applicator;
 
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isEmpty;
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresent;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.containsInAnyOrder;
@@ -31,11 +33,14 @@ import static org.hamcrest.Matchers.is;
 
 import io.github.sebastiantoepfer.ddd.media.core.HashMapMedia;
 import io.github.sebastiantoepfer.jsonschema.JsonSchemas;
+import io.github.sebastiantoepfer.jsonschema.core.keyword.type.NamedJsonSchemas;
 import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
 import io.github.sebastiantoepfer.jsonschema.keyword.StaticAnnotation;
 import jakarta.json.Json;
+import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonValue;
 import java.util.List;
+import java.util.Map;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 
@@ -125,6 +130,62 @@ class AdditionalPropertiesKeywordTest {
         );
     }
 
+    @Test
+    void should_apply_properties_and_pattern_properties_together_with_additionals() {
+        final Keyword keyword = new AdditionalPropertiesKeyword(
+            List.of(
+                new PropertiesKeyword(new NamedJsonSchemas(Map.of("test", JsonSchemas.load(JsonValue.FALSE)))),
+                new PatternPropertiesKeyword(new NamedJsonSchemas(Map.of("^x-", JsonSchemas.load(JsonValue.TRUE))))
+            ),
+            JsonSchemas.load(JsonValue.FALSE)
+        );
+
+        assertThat(keyword.asApplicator().applyTo(Json.createObjectBuilder().add("x-foo", 1).build()), is(true));
+        assertThat(keyword.asApplicator().applyTo(Json.createObjectBuilder().add("test", 1).build()), is(false));
+        assertThat(keyword.asApplicator().applyTo(Json.createObjectBuilder().add("foo", 1).build()), is(false));
+    }
+
+    @Test
+    void should_return_propertynames_not_matched_by_properties_or_pattern_properties() {
+        assertThat(
+            new AdditionalPropertiesKeyword(
+                List.of(
+                    new PropertiesKeyword(new NamedJsonSchemas(Map.of("test", JsonSchemas.load(JsonValue.TRUE)))),
+                    new PatternPropertiesKeyword(new NamedJsonSchemas(Map.of("^x-", JsonSchemas.load(JsonValue.TRUE))))
+                ),
+                JsonSchemas.load(JsonValue.TRUE)
+            )
+                .asAnnotation()
+                .valueFor(Json.createObjectBuilder().add("test", 1).add("x-foo", 1).add("foo", 1).build())
+                .asJsonArray(),
+            containsInAnyOrder(Json.createValue("foo"))
+        );
+    }
+
+    @Test
+    void should_validate_wide_objects() {
+        final JsonObjectBuilder instance = Json.createObjectBuilder();
+        for (int i = 0; i < 1_000; i++) {
+            instance.add("p" + i, i);
+        }
+
+        assertThat(
+            JsonSchemas.load(
+                Json.createObjectBuilder()
+                    .add(
+                        "properties",
+                        Json.createObjectBuilder().add("p0", Json.createObjectBuilder().add("type", "integer"))
+                    )
+                    .add("patternProperties", Json.createObjectBuilder().add("^p[1-4]", JsonValue.TRUE))
+                    .add("additionalProperties", Json.createObjectBuilder().add("type", "integer"))
+                    .build()
+            )
+                .validator()
+                .isValid(instance.add("p999", "not an integer").build()),
+            is(false)
+        );
+    }
+
     @Test
     void should_be_printable() {
         assertThat(
@@ -134,4 +195,29 @@ class AdditionalPropertiesKeywordTest {
             (Matcher) hasEntry(is("additionalProperties"), anEmptyMap())
         );
     }
+
+    @Test
+    void should_evaluate_properties_one_after_another_if_properties_are_absent() {
+        assertThat(
+            new AdditionalPropertiesKeyword(
+                List.of(
+                    new StaticAnnotation("properties", JsonValue.EMPTY_JSON_ARRAY),
+                    new StaticAnnotation("patternProperties", JsonValue.EMPTY_JSON_ARRAY)
+                ),
+                JsonSchemas.load(JsonValue.FALSE)
+            ).startObject(),
+            isPresent()
+        );
+    }
+
+    @Test
+    void should_need_whole_object_if_properties_are_evaluated_by_other_keywords() {
+        assertThat(
+            new AdditionalPropertiesKeyword(
+                List.of(new StaticAnnotation("properties", Json.createArrayBuilder().add("test").build())),
+                JsonSchemas.load(JsonValue.FALSE)
+            ).startObject(),
+            isEmpty()
+        );
+    }
 }
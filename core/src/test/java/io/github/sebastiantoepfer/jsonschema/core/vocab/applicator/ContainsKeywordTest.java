@@ -188,4 +188,24 @@ class ContainsKeywordTest {
             is(JsonValue.TRUE)
         );
     }
+
+    @Test
+    void should_stop_counting_if_limit_is_reached() {
+        assertThat(
+            new ContainsKeyword(
+                JsonSchemas.load(Json.createObjectBuilder().add("type", "string").build())
+            ).countMatches(Json.createArrayBuilder().add("foo").add(1).add("bar").add("baz").build(), 2),
+            is(2)
+        );
+    }
+
+    @Test
+    void should_count_all_matches_below_limit() {
+        assertThat(
+            new ContainsKeyword(
+                JsonSchemas.load(Json.createObjectBuilder().add("type", "string").build())
+            ).countMatches(Json.createArrayBuilder().add("foo").add(1).add("bar").build(), 5),
+            is(2)
+        );
+    }
 }
@@ -23,6 +23,8 @@
  */
 package io.github.sebastiantoepfer.jsonschema.core.vocab.applicator;
 
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isEmpty;
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresent;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
@@ -120,4 +122,55 @@ class ItemsKeywordTest {
             is(false)
         );
     }
+
+    @Test
+    void should_apply_prefixitems_schemas_together_with_items() {
+        final Keyword items = new ItemsKeyword(
+            List.of(
+                new PrefixItemsKeyword(
+                    List.of(JsonSchemas.load(Json.createObjectBuilder().add("type", "string").build()))
+                )
+            ),
+            JsonSchemas.load(Json.createObjectBuilder().add("type", "integer").build())
+        );
+
+        assertThat(items.asApplicator().applyTo(Json.createArrayBuilder().add("1").add(2).add(3).build()), is(true));
+        assertThat(items.asApplicator().applyTo(Json.createArrayBuilder().add(1).add(2).add(3).build()), is(false));
+        assertThat(items.asApplicator().applyTo(Json.createArrayBuilder().add("1").add("2").build()), is(false));
+    }
+
+    @Test
+    void should_return_false_if_all_items_are_covered_by_prefixitems() {
+        assertThat(
+            new ItemsKeyword(
+                List.of(new PrefixItemsKeyword(List.of(JsonSchemas.load(JsonValue.TRUE)))),
+                JsonSchemas.load(JsonValue.TRUE)
+            )
+                .asAnnotation()
+                .valueFor(Json.createArrayBuilder().add(1).build()),
+            is(JsonValue.FALSE)
+        );
+    }
+
+    @Test
+    void should_evaluate_items_one_after_another_if_prefixitems_is_absent() {
+        assertThat(
+            new ItemsKeyword(
+                List.of(new StaticAnnotation("prefixItems", Json.createValue(-1))),
+                JsonSchemas.load(JsonValue.TRUE)
+            ).startArray(),
+            isPresent()
+        );
+    }
+
+    @Test
+    void should_need_whole_array_if_items_are_evaluated_by_other_keywords() {
+        assertThat(
+            new ItemsKeyword(
+                List.of(new StaticAnnotation("prefixItems", Json.createValue(0))),
+                JsonSchemas.load(JsonValue.TRUE)
+            ).startArray(),
+            isEmpty()
+        );
+    }
 }
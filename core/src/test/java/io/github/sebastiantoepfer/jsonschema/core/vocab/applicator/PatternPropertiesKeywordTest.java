@@ -27,12 +27,15 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
 import io.github.sebastiantoepfer.ddd.media.core.HashMapMedia;
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
 import io.github.sebastiantoepfer.jsonschema.JsonSchemas;
 import io.github.sebastiantoepfer.jsonschema.core.keyword.type.NamedJsonSchemas;
 import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
+import io.github.sebastiantoepfer.jsonschema.keyword.MemoStatistics;
 import jakarta.json.Json;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
@@ -142,6 +145,59 @@ class PatternPropertiesKeywordTest {
         );
     }
 
+    @Test
+    void should_reuse_matches_of_known_property_names() {
+        final PatternPropertiesKeyword keyword = new PatternPropertiesKeyword(
+            new NamedJsonSchemas(Map.of("f.o", JsonSchemas.load(JsonValue.TRUE)))
+        );
+        final JsonValue instance = Json.createObjectBuilder().add("foo", 1).add("bar", 1).build();
+
+        assertThat(keyword.applyTo(instance), is(true));
+        assertThat(keyword.valueFor(instance).asJsonArray(), hasSize(1));
+
+        assertThat(keyword.misses(), is(2L));
+        assertThat(keyword.hits(), is(2L));
+    }
+
+    @Test
+    void should_expose_memo_statistics_through_the_schema() {
+        final JsonSchema schema = JsonSchemas.load(
+            Json.createObjectBuilder()
+                .add("patternProperties", Json.createObjectBuilder().add("^f", JsonValue.TRUE))
+                .build()
+        );
+
+        schema.applyTo(Json.createObjectBuilder().add("foo", 1).build());
+        schema.applyTo(Json.createObjectBuilder().add("foo", 2).build());
+
+        final MemoStatistics statistics = schema
+            .keywordByName("patternProperties")
+            .flatMap(Keyword::memoStatistics)
+            .orElseThrow();
+        assertThat(statistics.misses(), is(1L));
+        assertThat(statistics.hits(), is(1L));
+    }
+
+    @Test
+    void should_expose_memo_statistics_if_replaced_by_additional_properties() {
+        final JsonSchema schema = JsonSchemas.load(
+            Json.createObjectBuilder()
+                .add("patternProperties", Json.createObjectBuilder().add("^f", JsonValue.TRUE))
+                .add("additionalProperties", JsonValue.FALSE)
+                .build()
+        );
+
+        schema.applyTo(Json.createObjectBuilder().add("foo", 1).build());
+        schema.applyTo(Json.createObjectBuilder().add("foo", 2).build());
+
+        final MemoStatistics statistics = schema
+            .keywordByName("patternProperties")
+            .flatMap(Keyword::memoStatistics)
+            .orElseThrow();
+        assertThat(statistics.misses(), is(1L));
+        assertThat(statistics.hits(), is(1L));
+    }
+
     @Test
     void should_be_printable() {
         assertThat(
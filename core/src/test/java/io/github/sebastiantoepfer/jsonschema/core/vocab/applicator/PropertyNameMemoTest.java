@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core.vocab.applicator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PropertyNameMemoTest {
+
+    @Test
+    void should_not_create_memo_without_capacity() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PropertyNameMemo<>(0, String::length));
+    }
+
+    @Test
+    void should_compute_value_only_once() {
+        final AtomicInteger calls = new AtomicInteger();
+        final PropertyNameMemo<Integer> memo = new PropertyNameMemo<>(
+            10,
+            name -> {
+                calls.incrementAndGet();
+                return name.length();
+            }
+        );
+
+        assertThat(memo.valueFor("test"), is(4));
+        assertThat(memo.valueFor("test"), is(4));
+
+        assertThat(calls.get(), is(1));
+        assertThat(memo.misses(), is(1L));
+        assertThat(memo.hits(), is(1L));
+    }
+
+    @Test
+    void should_not_grow_beyond_capacity() {
+        final PropertyNameMemo<Integer> memo = new PropertyNameMemo<>(8, String::length);
+
+        for (int i = 0; i < 100; i++) {
+            memo.valueFor("name" + i);
+        }
+
+        assertThat(memo.size(), is(lessThanOrEqualTo(8)));
+    }
+
+    @Test
+    void should_keep_hot_names_on_eviction() {
+        final PropertyNameMemo<Integer> memo = new PropertyNameMemo<>(8, String::length);
+        for (int i = 0; i < 100; i++) {
+            memo.valueFor("hot");
+            memo.valueFor("cold" + i);
+        }
+        final long misses = memo.misses();
+
+        memo.valueFor("hot");
+
+        assertThat(memo.misses(), is(misses));
+    }
+
+    @Test
+    void should_not_memorize_long_names() {
+        final PropertyNameMemo<Integer> memo = new PropertyNameMemo<>(8, String::length);
+        final String name = "a".repeat(1_000);
+
+        memo.valueFor(name);
+        memo.valueFor(name);
+
+        assertThat(memo.misses(), is(2L));
+        assertThat(memo.size(), is(0));
+    }
+}
@@ -73,6 +73,35 @@ class RefKeywordTest {
         assertThat(keyword.asApplicator().applyTo(Json.createValue("invalid")), is(false));
     }
 
+    @Test
+    void should_resolve_relative_reference_against_embedded_resource() {
+        final JsonSchema schema = JsonSchemas.load(
+            Json.createObjectBuilder()
+                .add("$id", "https://example.com/root.json")
+                .add("$defs", Json.createObjectBuilder().add("value", Json.createObjectBuilder().add("type", "string")))
+                .add(
+                    "properties",
+                    Json.createObjectBuilder().add(
+                        "a",
+                        Json.createObjectBuilder()
+                            .add("$id", "embedded/a.json")
+                            .add(
+                                "$defs",
+                                Json.createObjectBuilder().add(
+                                    "value",
+                                    Json.createObjectBuilder().add("type", "integer")
+                                )
+                            )
+                            .add("$ref", "#/$defs/value")
+                    )
+                )
+                .build()
+        );
+
+        assertThat(schema.applyTo(Json.createObjectBuilder().add("a", 1).build()), is(true));
+        assertThat(schema.applyTo(Json.createObjectBuilder().add("a", "1").build()), is(false));
+    }
+
     @Test
     void should_use_remote_referenced_schema_for_validation() {
         final Keyword keyword = new RefKeyword(
@@ -0,0 +1,100 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core.vocab.core;
+
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isEmpty;
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresent;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.JsonSchemas;
+import jakarta.json.Json;
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+
+class SchemaCacheTest {
+
+    private static final JsonSchema STRING = JsonSchemas.load(Json.createObjectBuilder().add("type", "string").build());
+    private static final JsonSchema NUMBER = JsonSchemas.load(Json.createObjectBuilder().add("type", "number").build());
+
+    @Test
+    void should_not_be_createable_without_capacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SchemaCache(0));
+    }
+
+    @Test
+    void should_return_cached_schema() {
+        final SchemaCache cache = new SchemaCache();
+        cache.cache(URI.create("https://example.com/string"), STRING);
+
+        assertThat(cache.schemaFor(URI.create("https://example.com/string")), isPresent());
+        assertThat(cache.schemaFor(URI.create("https://example.com/number")), isEmpty());
+    }
+
+    @Test
+    void should_keep_first_cached_schema() {
+        final SchemaCache cache = new SchemaCache();
+
+        assertThat(cache.cache(URI.create("https://example.com/schema"), STRING), is(sameInstance(STRING)));
+        assertThat(cache.cache(URI.create("https://example.com/schema"), NUMBER), is(sameInstance(STRING)));
+    }
+
+    @Test
+    void should_evict_less_frequently_used_schema() {
+        final SchemaCache cache = new SchemaCache(SchemaCache.weightOf(STRING) + SchemaCache.weightOf(NUMBER) - 1);
+        cache.cache(URI.create("https://example.com/string"), STRING);
+        cache.schemaFor(URI.create("https://example.com/string"));
+        cache.schemaFor(URI.create("https://example.com/string"));
+        cache.cache(URI.create("https://example.com/number"), NUMBER);
+
+        assertThat(cache.schemaFor(URI.create("https://example.com/string")), isPresent());
+        assertThat(cache.schemaFor(URI.create("https://example.com/number")), isEmpty());
+        assertThat(cache.weight(), is(lessThanOrEqualTo(SchemaCache.weightOf(STRING))));
+    }
+
+    @Test
+    void should_weigh_schema_by_its_json_values() {
+        assertThat(SchemaCache.weightOf(STRING), is(2L));
+        assertThat(
+            SchemaCache.weightOf(
+                Json.createObjectBuilder().add("enum", Json.createArrayBuilder().add(1).add(2)).build()
+            ),
+            is(4L)
+        );
+    }
+
+    @Test
+    void should_never_evict_pinned_schemas() {
+        final SchemaCache cache = new SchemaCache(1);
+        cache.pin(URI.create("https://example.com/string"), STRING);
+        cache.cache(URI.create("https://example.com/number"), NUMBER);
+
+        assertThat(cache.schemaFor(URI.create("https://example.com/string")), isPresent());
+        assertThat(cache.schemaFor(URI.create("https://example.com/number")), isEmpty());
+    }
+}
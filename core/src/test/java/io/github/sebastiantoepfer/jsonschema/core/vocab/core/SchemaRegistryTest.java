@@ -25,10 +25,21 @@ package io.github.sebastiantoepfer.jsonschema.core.vocab.core;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.spi.InMemorySchemaLoader;
+import io.github.sebastiantoepfer.jsonschema.spi.SchemaLoader;
+import io.github.sebastiantoepfer.jsonschema.spi.SchemaLoaders;
+import jakarta.json.Json;
 import jakarta.json.JsonValue;
 import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class SchemaRegistryTest {
 
@@ -39,4 +50,89 @@ class SchemaRegistryTest {
             is(JsonValue.ValueType.FALSE)
         );
     }
+
+    @Test
+    void should_load_schema_with_loader() throws Exception {
+        final SchemaRegistry registry = new SchemaRegistry.DefaultSchemaRegistry(
+            List.of(
+                new InMemorySchemaLoader(
+                    Map.of(
+                        URI.create("https://example.com/string"),
+                        Json.createObjectBuilder().add("type", "string").build()
+                    )
+                )
+            )
+        );
+
+        final JsonSchema schema = registry.schemaForUrl(URI.create("https://example.com/string"));
+
+        assertThat(schema.applyTo(Json.createValue("a")), is(true));
+        assertThat(schema.applyTo(Json.createValue(1)), is(false));
+    }
+
+    @Test
+    void should_load_schema_with_registered_loader() throws Exception {
+        final SchemaLoader loader = new InMemorySchemaLoader(
+            Map.of(URI.create("https://example.com/registered"), Json.createObjectBuilder().add("type", "null").build())
+        );
+        SchemaLoaders.register(loader);
+        try {
+            final JsonSchema schema = new SchemaRegistry.DefaultSchemaRegistry()
+                .schemaForUrl(URI.create("https://example.com/registered"));
+
+            assertThat(schema.applyTo(JsonValue.NULL), is(true));
+            assertThat(schema.applyTo(Json.createValue(1)), is(false));
+        } finally {
+            SchemaLoaders.unregister(loader);
+        }
+    }
+
+    @Test
+    void should_load_every_schema_only_once() throws Exception {
+        final SchemaLoader loader = new SchemaLoader() {
+            private int calls;
+
+            @Override
+            public Optional<JsonValue> loadSchema(final URI uri) {
+                calls++;
+                assertThat(calls, is(1));
+                return Optional.of(JsonValue.TRUE);
+            }
+        };
+        final SchemaRegistry registry = new SchemaRegistry.DefaultSchemaRegistry(List.of(loader));
+
+        assertThat(
+            registry.schemaForUrl(URI.create("https://example.com/schema")),
+            is(sameInstance(registry.schemaForUrl(URI.create("https://example.com/schema#/$defs/any"))))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "https://json-schema.org/draft/2020-12/schema",
+            "https://json-schema.org/draft/2020-12/meta/core",
+            "https://json-schema.org/draft/2020-12/meta/applicator",
+            "https://json-schema.org/draft/2020-12/meta/unevaluated",
+            "https://json-schema.org/draft/2020-12/meta/validation",
+            "https://json-schema.org/draft/2020-12/meta/meta-data",
+            "https://json-schema.org/draft/2020-12/meta/format-annotation",
+            "https://json-schema.org/draft/2020-12/meta/content",
+        }
+    )
+    void should_provide_bundled_meta_schemas(final String uri) throws Exception {
+        assertThat(
+            new SchemaRegistry.DefaultSchemaRegistry().schemaForUrl(URI.create(uri)).getValueType(),
+            is(JsonValue.ValueType.OBJECT)
+        );
+    }
+
+    @Test
+    void should_validate_against_bundled_meta_schema() throws Exception {
+        final JsonSchema metaSchema = new SchemaRegistry.DefaultSchemaRegistry()
+            .schemaForUrl(URI.create("https://json-schema.org/draft/2020-12/schema"));
+
+        assertThat(metaSchema.applyTo(Json.createObjectBuilder().add("type", "string").build()), is(true));
+        assertThat(metaSchema.applyTo(Json.createObjectBuilder().add("minLength", -1).build()), is(false));
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class CanonicalJsonValueTest {
+
+    @Test
+    void should_be_equals_for_numbers_with_different_scale() {
+        assertThat(
+            new CanonicalJsonValue(Json.createValue(new BigDecimal("1.00"))),
+            is(new CanonicalJsonValue(Json.createValue(1)))
+        );
+    }
+
+    @Test
+    void should_be_equals_for_objects_with_nested_numbers_with_different_scale() {
+        assertThat(
+            new CanonicalJsonValue(
+                Json.createObjectBuilder()
+                    .add("a", Json.createArrayBuilder().add(new BigDecimal("10.0")))
+                    .add("b", "x")
+                    .build()
+            ),
+            is(
+                new CanonicalJsonValue(
+                    Json.createObjectBuilder().add("b", "x").add("a", Json.createArrayBuilder().add(10)).build()
+                )
+            )
+        );
+    }
+
+    @Test
+    void should_not_be_equals_for_arrays_in_other_order() {
+        assertThat(
+            new CanonicalJsonValue(Json.createArrayBuilder().add(1).add(2).build()),
+            is(not(new CanonicalJsonValue(Json.createArrayBuilder().add(2).add(1).build())))
+        );
+    }
+
+    @Test
+    void should_not_be_equals_for_different_types() {
+        assertThat(new CanonicalJsonValue(JsonValue.TRUE), is(not(new CanonicalJsonValue(JsonValue.FALSE))));
+        assertThat(new CanonicalJsonValue(Json.createValue("1")), is(not(new CanonicalJsonValue(Json.createValue(1)))));
+    }
+
+    @Test
+    void should_have_same_hashcode_if_equals() {
+        assertThat(
+            new CanonicalJsonValue(Json.createArrayBuilder().add(new BigDecimal("2.50")).build()).hashCode(),
+            is(new CanonicalJsonValue(Json.createArrayBuilder().add(new BigDecimal("2.5")).build()).hashCode())
+        );
+    }
+
+    @Test
+    void should_be_equal_to_value_with_nested_numbers_with_different_scale() {
+        assertThat(
+            new CanonicalJsonValue(
+                Json.createObjectBuilder().add("a", Json.createArrayBuilder().add(new BigDecimal("10.0"))).build()
+            ).isEqualTo(Json.createObjectBuilder().add("a", Json.createArrayBuilder().add(10)).build()),
+            is(true)
+        );
+    }
+
+    @Test
+    void should_not_be_equal_to_value_with_other_members() {
+        final CanonicalJsonValue value = new CanonicalJsonValue(Json.createObjectBuilder().add("a", 1).build());
+
+        assertThat(value.isEqualTo(Json.createObjectBuilder().add("b", 1).build()), is(false));
+        assertThat(value.isEqualTo(Json.createObjectBuilder().add("a", 1).add("b", 1).build()), is(false));
+        assertThat(value.isEqualTo(Json.createObjectBuilder().add("a", "1").build()), is(false));
+        assertThat(value.isEqualTo(Json.createArrayBuilder().add(1).build()), is(false));
+    }
+
+    @Test
+    void should_not_be_equal_to_array_of_other_size() {
+        assertThat(
+            new CanonicalJsonValue(Json.createArrayBuilder().add(1).build()).isEqualTo(
+                Json.createArrayBuilder().add(1).add(1).build()
+            ),
+            is(false)
+        );
+    }
+}
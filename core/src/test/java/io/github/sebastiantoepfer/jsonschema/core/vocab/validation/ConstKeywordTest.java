@@ -33,6 +33,7 @@ import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
 import jakarta.json.Json;
 import jakarta.json.JsonValue;
 import jakarta.json.spi.JsonProvider;
+import java.math.BigDecimal;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 
@@ -122,6 +123,33 @@ class ConstKeywordTest {
         );
     }
 
+    @Test
+    void should_be_valid_for_object_with_nested_number_in_other_scale() {
+        assertThat(
+            new ConstKeyword(
+                JsonProvider.provider(),
+                Json.createObjectBuilder().add("values", Json.createArrayBuilder().add(1).add(2.5)).build()
+            )
+                .asAssertion()
+                .isValidFor(
+                    Json.createObjectBuilder()
+                        .add("values", Json.createArrayBuilder().add(new BigDecimal("1.0")).add(new BigDecimal("2.50")))
+                        .build()
+                ),
+            is(true)
+        );
+    }
+
+    @Test
+    void should_be_invalid_for_array_with_other_order() {
+        assertThat(
+            new ConstKeyword(JsonProvider.provider(), Json.createArrayBuilder().add(1).add(2).build())
+                .asAssertion()
+                .isValidFor(Json.createArrayBuilder().add(2).add(1).build()),
+            is(false)
+        );
+    }
+
     @Test
     void should_be_printable() {
         assertThat(
@@ -32,6 +32,8 @@ import io.github.sebastiantoepfer.ddd.media.core.HashMapMedia;
 import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
 import jakarta.json.Json;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonCollectors;
+import java.util.stream.IntStream;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 
@@ -80,4 +82,37 @@ class EnumKeywordTest {
             (Matcher) hasEntry(is("enum"), containsInAnyOrder("TEST", "VALID"))
         );
     }
+
+    @Test
+    void should_be_valid_for_array_with_number_in_other_scale() {
+        assertThat(
+            new EnumKeyword(Json.createArrayBuilder().add(Json.createArrayBuilder().add(1)).build())
+                .asAssertion()
+                .isValidFor(Json.createArrayBuilder().add(1.0).build()),
+            is(true)
+        );
+    }
+
+    @Test
+    void should_be_invalid_for_boolean_if_only_numbers_are_allowed() {
+        assertThat(
+            new EnumKeyword(Json.createArrayBuilder().add(0).add(1).build())
+                .asAssertion()
+                .isValidFor(JsonValue.FALSE),
+            is(false)
+        );
+    }
+
+    @Test
+    void should_find_values_in_huge_enums() {
+        final Keyword keyword = new EnumKeyword(
+            IntStream.range(0, 10_000)
+                .mapToObj(i -> "code" + i)
+                .map(Json::createValue)
+                .collect(JsonCollectors.toJsonArray())
+        );
+
+        assertThat(keyword.asAssertion().isValidFor(Json.createValue("code9999")), is(true));
+        assertThat(keyword.asAssertion().isValidFor(Json.createValue("code10000")), is(false));
+    }
 }
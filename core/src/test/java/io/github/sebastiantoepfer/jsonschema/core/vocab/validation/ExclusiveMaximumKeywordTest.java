@@ -84,4 +84,12 @@ class ExclusiveMaximumKeywordTest {
             (Matcher) hasEntry(is("exclusiveMaximum"), is(BigDecimal.valueOf(10)))
         );
     }
+
+    @Test
+    void should_compare_integers_against_decimal_maximum() {
+        final Keyword maximum = new ExclusiveMaximumKeyword(new BigDecimal("2.5"));
+
+        assertThat(maximum.asAssertion().isValidFor(Json.createValue(2)), is(true));
+        assertThat(maximum.asAssertion().isValidFor(Json.createValue(3)), is(false));
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+class LongHashSetTest {
+
+    @Test
+    void should_add_new_values() {
+        final LongHashSet set = new LongHashSet(3);
+
+        assertThat(set.add(0L), is(true));
+        assertThat(set.add(Long.MIN_VALUE), is(true));
+        assertThat(set.add(Long.MAX_VALUE), is(true));
+    }
+
+    @Test
+    void should_not_add_values_twice() {
+        final LongHashSet set = new LongHashSet(2);
+        set.add(42L);
+
+        assertThat(set.add(42L), is(false));
+    }
+
+    @Test
+    void should_handle_colliding_values() {
+        final LongHashSet set = new LongHashSet(1_000);
+        for (long i = 0; i < 1_000; i++) {
+            set.add(i * 1024);
+        }
+
+        assertThat(set.add(512L * 1024), is(false));
+        assertThat(set.add(1_000L * 1024), is(true));
+    }
+}
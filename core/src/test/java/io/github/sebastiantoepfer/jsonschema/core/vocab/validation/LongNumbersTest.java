@@ -0,0 +1,65 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.core.vocab.validation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import jakarta.json.Json;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class LongNumbersTest {
+
+    @Test
+    void should_have_exact_long_value_for_small_integers() {
+        assertThat(LongNumbers.hasExactLongValue(Json.createValue(42L)), is(true));
+    }
+
+    @Test
+    void should_not_have_exact_long_value_for_decimals() {
+        assertThat(LongNumbers.hasExactLongValue(Json.createValue(new BigDecimal("42.0"))), is(false));
+    }
+
+    @Test
+    void should_not_have_exact_long_value_for_huge_integers() {
+        assertThat(LongNumbers.hasExactLongValue(Json.createValue(new BigDecimal("1e30").toBigInteger())), is(false));
+    }
+
+    @Test
+    void should_round_up() {
+        assertThat(LongNumbers.ceil(new BigDecimal("-2.5")), is(-2L));
+    }
+
+    @Test
+    void should_round_down() {
+        assertThat(LongNumbers.floor(new BigDecimal("-2.5")), is(-3L));
+    }
+
+    @Test
+    void should_clamp_to_range_of_long() {
+        assertThat(LongNumbers.ceil(new BigDecimal("1e30")), is(Long.MAX_VALUE));
+        assertThat(LongNumbers.floor(new BigDecimal("-1e30")), is(Long.MIN_VALUE));
+    }
+}
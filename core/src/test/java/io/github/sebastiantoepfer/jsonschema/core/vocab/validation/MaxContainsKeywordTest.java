@@ -145,4 +145,26 @@ class MaxContainsKeywordTest {
             is(false)
         );
     }
+
+    @Test
+    void should_be_valid_if_max_contains_exceeds_int_range() {
+        assertThat(
+            new MaxContainsKeyword(
+                List.of(new StaticAnnotation("contains", JsonValue.TRUE)),
+                BigInteger.ONE.shiftLeft(31)
+            )
+                .asAssertion()
+                .isValidFor(Json.createArrayBuilder().add("foo").build()),
+            is(true)
+        );
+        assertThat(
+            new MaxContainsKeyword(
+                List.of(new StaticAnnotation("contains", JsonValue.TRUE)),
+                BigInteger.ONE.shiftLeft(32)
+            )
+                .asAssertion()
+                .isValidFor(Json.createArrayBuilder().add("foo").build()),
+            is(true)
+        );
+    }
 }
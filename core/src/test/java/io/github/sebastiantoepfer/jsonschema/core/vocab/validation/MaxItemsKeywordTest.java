@@ -83,6 +83,14 @@ class MaxItemsKeywordTest {
         );
     }
 
+    @Test
+    void should_be_valid_if_max_items_exceeds_int_range() {
+        final MaxItemsKeyword keyword = new MaxItemsKeyword(BigInteger.ONE.shiftLeft(32));
+
+        assertThat(keyword.isValidFor(Json.createArrayBuilder().add(1).build()), is(true));
+        assertThat(keyword.startArray().orElseThrow().memberStarts(0), is(true));
+    }
+
     @Test
     void should_be_printable() {
         assertThat(
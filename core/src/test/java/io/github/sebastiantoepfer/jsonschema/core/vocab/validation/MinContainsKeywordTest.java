@@ -146,4 +146,17 @@ class MinContainsKeywordTest {
             is(false)
         );
     }
+
+    @Test
+    void should_be_invalid_if_min_contains_exceeds_int_range() {
+        assertThat(
+            new MinContainsKeyword(
+                List.of(new StaticAnnotation("contains", JsonValue.TRUE)),
+                BigInteger.valueOf(Integer.MAX_VALUE).add(BigInteger.TWO)
+            )
+                .asAssertion()
+                .isValidFor(Json.createArrayBuilder().add("foo").build()),
+            is(false)
+        );
+    }
 }
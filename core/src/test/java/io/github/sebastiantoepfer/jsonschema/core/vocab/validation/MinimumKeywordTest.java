@@ -75,4 +75,20 @@ class MinimumKeywordTest {
             (Matcher) hasEntry(is("minimum"), is(BigDecimal.valueOf(0)))
         );
     }
+
+    @Test
+    void should_compare_integers_against_decimal_minimum() {
+        final Keyword minimum = new MinimumKeyword(new BigDecimal("2.5"));
+
+        assertThat(minimum.asAssertion().isValidFor(Json.createValue(2)), is(false));
+        assertThat(minimum.asAssertion().isValidFor(Json.createValue(3)), is(true));
+    }
+
+    @Test
+    void should_compare_integers_against_minimum_outside_of_long() {
+        assertThat(
+            new MinimumKeyword(new BigDecimal("-1e30")).asAssertion().isValidFor(Json.createValue(Long.MIN_VALUE)),
+            is(true)
+        );
+    }
 }
@@ -84,4 +84,30 @@ class MultipleOfKeywordTest {
             (Matcher) hasEntry(is("multipleOf"), is(new BigDecimal(2)))
         );
     }
+
+    @Test
+    void should_be_invalid_for_an_integer_which_is_not_a_multiple_of_a_decimal() {
+        assertThat(
+            new MultipleOfKeyword(new BigDecimal("0.3")).asAssertion().isValidFor(Json.createValue(1)),
+            is(false)
+        );
+    }
+
+    @Test
+    void should_be_valid_for_an_integer_which_is_a_multiple_of_a_decimal() {
+        assertThat(
+            new MultipleOfKeyword(new BigDecimal("0.3")).asAssertion().isValidFor(Json.createValue(3)),
+            is(true)
+        );
+    }
+
+    @Test
+    void should_be_valid_for_huge_integers() {
+        assertThat(
+            new MultipleOfKeyword(new BigDecimal("0.5"))
+                .asAssertion()
+                .isValidFor(Json.createValue(new BigDecimal("123456789012345678901234567890"))),
+            is(true)
+        );
+    }
 }
@@ -31,8 +31,10 @@ import io.github.sebastiantoepfer.ddd.media.core.HashMapMedia;
 import io.github.sebastiantoepfer.jsonschema.keyword.Keyword;
 import jakarta.json.Json;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonCollectors;
 import java.io.StringReader;
 import java.math.BigDecimal;
+import java.util.stream.IntStream;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 
@@ -89,15 +91,9 @@ class UniqueItemsKeywordTest {
     void pitests_say_i_must_write_this_tests() {
         //hashset uses hashCode to determine if equals needs to be used, so we don't really need equals.
         //but to have a valid java class we should override both
-        final UniqueItemsKeyword.JsonValueNumberEqualsFix obj = new UniqueItemsKeyword.JsonValueNumberEqualsFix(
-            JsonValue.EMPTY_JSON_OBJECT
-        );
-        final UniqueItemsKeyword.JsonValueNumberEqualsFix number1 = new UniqueItemsKeyword.JsonValueNumberEqualsFix(
-            Json.createValue(new BigDecimal("1.0"))
-        );
-        final UniqueItemsKeyword.JsonValueNumberEqualsFix number2 = new UniqueItemsKeyword.JsonValueNumberEqualsFix(
-            Json.createValue(new BigDecimal("1.00"))
-        );
+        final CanonicalJsonValue obj = new CanonicalJsonValue(JsonValue.EMPTY_JSON_OBJECT);
+        final CanonicalJsonValue number1 = new CanonicalJsonValue(Json.createValue(new BigDecimal("1.0")));
+        final CanonicalJsonValue number2 = new CanonicalJsonValue(Json.createValue(new BigDecimal("1.00")));
 
         assertThat(obj.equals(obj), is(true));
         assertThat(number1.equals(number1), is(true));
@@ -106,6 +102,48 @@ class UniqueItemsKeywordTest {
         assertThat(obj.equals(number1), is(false));
     }
 
+    @Test
+    void should_be_invalid_for_duplicated_strings() {
+        assertThat(
+            new UniqueItemsKeyword(true)
+                .asAssertion()
+                .isValidFor(Json.createArrayBuilder().add("a").add("b").add("a").build()),
+            is(false)
+        );
+    }
+
+    @Test
+    void should_be_invalid_for_duplicated_integers() {
+        assertThat(
+            new UniqueItemsKeyword(true)
+                .asAssertion()
+                .isValidFor(Json.createArrayBuilder().add(1).add(-1).add(1L).build()),
+            is(false)
+        );
+    }
+
+    @Test
+    void should_be_invalid_for_objects_with_mathematically_equal_numbers() {
+        assertThat(
+            new UniqueItemsKeyword(true)
+                .asAssertion()
+                .isValidFor(Json.createReader(new StringReader("[{\"a\":1.0},{\"a\":1}]")).readArray()),
+            is(false)
+        );
+    }
+
+    @Test
+    void should_be_valid_for_many_unique_integers() {
+        assertThat(
+            new UniqueItemsKeyword(true)
+                .asAssertion()
+                .isValidFor(
+                    IntStream.range(0, 50_000).mapToObj(Json::createValue).collect(JsonCollectors.toJsonArray())
+                ),
+            is(true)
+        );
+    }
+
     @Test
     void should_be_printable() {
         assertThat(
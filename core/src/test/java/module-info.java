@@ -33,6 +33,7 @@ open module io.github.sebastiantoepfer.jsonschema.core {
     requires jakarta.json;
 
     uses io.github.sebastiantoepfer.jsonschema.vocabulary.spi.LazyVocabularies;
+    uses io.github.sebastiantoepfer.jsonschema.spi.SchemaLoader;
 
     provides io.github.sebastiantoepfer.jsonschema.spi.JsonSchemaFactory
         with io.github.sebastiantoepfer.jsonschema.core.DefaultJsonSchemaFactory;
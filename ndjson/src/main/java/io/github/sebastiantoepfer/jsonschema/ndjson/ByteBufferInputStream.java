@@ -0,0 +1,78 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.ndjson;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Reads the remaining bytes of a buffer (e.g. a slice of a mapped file) without copying them into an array first.
+ */
+final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(final ByteBuffer buffer) {
+        this.buffer = Objects.requireNonNull(buffer);
+    }
+
+    @Override
+    public int read() {
+        final int result;
+        if (buffer.hasRemaining()) {
+            result = buffer.get() & 0xFF;
+        } else {
+            result = -1;
+        }
+        return result;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        final int result;
+        if (length == 0) {
+            result = 0;
+        } else if (buffer.hasRemaining()) {
+            result = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, result);
+        } else {
+            result = -1;
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(final long n) {
+        final int result = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + result);
+        return result;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
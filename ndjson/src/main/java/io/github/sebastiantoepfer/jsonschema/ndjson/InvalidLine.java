@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.ndjson;
+
+/**
+ * A line of a ndjson file which is not a valid json document or not valid against the schema.
+ */
+public final class InvalidLine {
+
+    private final long line;
+    private final long offset;
+
+    public InvalidLine(final long line, final long offset) {
+        this.line = line;
+        this.offset = offset;
+    }
+
+    /**
+     * @return number of the line, the first line is 1
+     */
+    public long line() {
+        return line;
+    }
+
+    /**
+     * @return position of the first byte of the line in the file
+     */
+    public long offset() {
+        return offset;
+    }
+
+    @Override
+    public String toString() {
+        return "InvalidLine{" + "line=" + line + ", offset=" + offset + '}';
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 59 * hash + Long.hashCode(this.line);
+        hash = 59 * hash + Long.hashCode(this.offset);
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final InvalidLine other = (InvalidLine) obj;
+        return this.line == other.line && this.offset == other.offset;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.ndjson;
+
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Validates the lines of a range of a mapped file. A range contains only complete lines, so ranges can be
+ * validated in parallel. Every record is parsed directly from its slice of the buffer.
+ */
+final class LineRange implements Callable<LineRange.Result> {
+
+    private final ByteBuffer bytes;
+    private final long offset;
+    private final JsonSchema schema;
+    private final JsonParserFactory parsers;
+
+    /**
+     * @param bytes the lines of the range
+     * @param offset position of the first byte of the range in the file
+     * @param schema schema every record must be valid against
+     * @param parsers factory of the parsers of the records
+     */
+    LineRange(final ByteBuffer bytes, final long offset, final JsonSchema schema, final JsonParserFactory parsers) {
+        this.bytes = Objects.requireNonNull(bytes);
+        this.offset = offset;
+        this.schema = Objects.requireNonNull(schema);
+        this.parsers = Objects.requireNonNull(parsers);
+    }
+
+    @Override
+    public Result call() {
+        final Result result = new Result();
+        final int end = bytes.limit();
+        int start = bytes.position();
+        while (start < end) {
+            int lineEnd = start;
+            while (lineEnd < end && bytes.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            if (!isBlank(start, lineEnd)) {
+                result.records++;
+                if (!isValid(bytes.slice(start, lineEnd - start))) {
+                    //line is relative to the range, the caller knows the number of lines before it
+                    result.invalidLines.add(new InvalidLine(result.lines, offset + start - bytes.position()));
+                }
+            }
+            result.lines++;
+            start = lineEnd + 1;
+        }
+        return result;
+    }
+
+    private boolean isBlank(final int start, final int end) {
+        boolean result = true;
+        for (int i = start; i < end && result; i++) {
+            final byte b = bytes.get(i);
+            result = b == ' ' || b == '\t' || b == '\r';
+        }
+        return result;
+    }
+
+    private boolean isValid(final ByteBuffer line) {
+        boolean result;
+        try (JsonParser parser = parsers.createParser(new ByteBufferInputStream(line), StandardCharsets.UTF_8)) {
+            //a valid record is read completely -> anything but whitespace after it is an error
+            result = schema.applyTo(parser) && !parser.hasNext();
+        } catch (JsonException e) {
+            result = false;
+        }
+        return result;
+    }
+
+    static final class Result {
+
+        private long lines;
+        private long records;
+        private final List<InvalidLine> invalidLines = new ArrayList<>();
+
+        long lines() {
+            return lines;
+        }
+
+        long records() {
+            return records;
+        }
+
+        /**
+         * @return the invalid lines, numbered from 0 at the start of the range
+         */
+        List<InvalidLine> invalidLines() {
+            return invalidLines;
+        }
+    }
+}
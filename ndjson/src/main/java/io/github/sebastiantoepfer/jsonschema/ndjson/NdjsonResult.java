@@ -0,0 +1,99 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.ndjson;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Result of the validation of a ndjson file.
+ */
+public final class NdjsonResult {
+
+    private final long lines;
+    private final long records;
+    private final List<InvalidLine> invalidLines;
+    private final Duration duration;
+
+    NdjsonResult(final long lines, final long records, final List<InvalidLine> invalidLines, final Duration duration) {
+        this.lines = lines;
+        this.records = records;
+        this.invalidLines = List.copyOf(invalidLines);
+        this.duration = Objects.requireNonNull(duration);
+    }
+
+    /**
+     * @return true if every record of the file is valid
+     */
+    public boolean isValid() {
+        return invalidLines.isEmpty();
+    }
+
+    /**
+     * @return number of lines of the file, including blank lines
+     */
+    public long lines() {
+        return lines;
+    }
+
+    /**
+     * @return number of records (non blank lines) of the file
+     */
+    public long records() {
+        return records;
+    }
+
+    /**
+     * @return the invalid records, ordered by line
+     */
+    public List<InvalidLine> invalidLines() {
+        return invalidLines;
+    }
+
+    public Duration duration() {
+        return duration;
+    }
+
+    public double recordsPerSecond() {
+        final double result;
+        if (duration.isZero()) {
+            result = records;
+        } else {
+            result = records * 1_000_000_000.0 / duration.toNanos();
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "NdjsonResult{records=%d, invalid=%d, duration=%s, records/s=%.0f}",
+            records,
+            invalidLines.size(),
+            duration,
+            recordsPerSecond()
+        );
+    }
+}
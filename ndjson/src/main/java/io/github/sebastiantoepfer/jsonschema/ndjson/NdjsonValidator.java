@@ -0,0 +1,152 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.ndjson;
+
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParserFactory;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Validates every line of a newline delimited json file (ndjson, json lines) against a schema.
+ * <br/>
+ * The file is memory mapped window by window (a file can be larger than one mapping) and every window is cut into
+ * ranges of complete lines, which are validated by worker threads. The records are parsed directly from the mapped
+ * bytes and streamed into the schema ({@link JsonSchema#applyTo(jakarta.json.stream.JsonParser)}), no string or
+ * json tree of a record is created. Blank lines are ignored.
+ */
+public final class NdjsonValidator {
+
+    private static final long WINDOW_SIZE = 1L << 30;
+    private static final int RANGE_SIZE = 1 << 22;
+    private final JsonSchema schema;
+    private final int workers;
+    private final long windowSize;
+    private final int rangeSize;
+    private final JsonParserFactory parsers;
+
+    public NdjsonValidator(final JsonSchema schema) {
+        this(schema, Runtime.getRuntime().availableProcessors());
+    }
+
+    public NdjsonValidator(final JsonSchema schema, final int workers) {
+        this(schema, workers, WINDOW_SIZE, RANGE_SIZE);
+    }
+
+    NdjsonValidator(final JsonSchema schema, final int workers, final long windowSize, final int rangeSize) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("at least one worker is needed!");
+        }
+        this.schema = Objects.requireNonNull(schema);
+        this.workers = workers;
+        this.windowSize = windowSize;
+        this.rangeSize = rangeSize;
+        this.parsers = JsonProvider.provider().createParserFactory(Map.of());
+    }
+
+    /**
+     * @param file ndjson file to validate
+     * @return the invalid lines and the throughput
+     * @throws IOException if the file can not be read, or if a line is longer than a mapping window
+     */
+    public NdjsonResult validate(final Path file) throws IOException {
+        final long start = System.nanoTime();
+        final ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final List<InvalidLine> invalidLines = new ArrayList<>();
+            long lines = 0;
+            long records = 0;
+            long position = 0;
+            while (position < size) {
+                final MappedByteBuffer window = channel.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    position,
+                    Math.min(windowSize, size - position)
+                );
+                final int length = completeLinesIn(window, position, position + window.limit() == size);
+                //the ranges of one window are validated before the next window is mapped -> bounded memory
+                for (final Future<LineRange.Result> future : executor.invokeAll(rangesOf(window, length, position))) {
+                    final LineRange.Result result = future.get();
+                    for (final InvalidLine invalid : result.invalidLines()) {
+                        invalidLines.add(new InvalidLine(lines + invalid.line() + 1, invalid.offset()));
+                    }
+                    lines += result.lines();
+                    records += result.records();
+                }
+                position += length;
+            }
+            return new NdjsonResult(lines, records, invalidLines, Duration.ofNanos(System.nanoTime() - start));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("validation of " + file + " was interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("validation of " + file + " failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int completeLinesIn(final MappedByteBuffer window, final long position, final boolean last)
+        throws IOException {
+        int result = window.limit();
+        if (!last) {
+            while (result > 0 && window.get(result - 1) != '\n') {
+                result--;
+            }
+            if (result == 0) {
+                throw new IOException("line at offset " + position + " is longer than " + window.limit() + " bytes");
+            }
+        }
+        return result;
+    }
+
+    private List<LineRange> rangesOf(final MappedByteBuffer window, final int length, final long position) {
+        final List<LineRange> result = new ArrayList<>();
+        int start = 0;
+        while (start < length) {
+            int end = (int) Math.min(length, (long) start + rangeSize);
+            while (end < length && window.get(end - 1) != '\n') {
+                end++;
+            }
+            result.add(new LineRange(window.slice(start, end - start), position + start, schema, parsers));
+            start = end;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.ndjson;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class ByteBufferInputStreamTest {
+
+    @Test
+    void should_read_only_the_remaining_bytes() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.wrap("abcdef".getBytes(StandardCharsets.US_ASCII)).slice(1, 3);
+
+        assertThat(new String(new ByteBufferInputStream(buffer).readAllBytes(), StandardCharsets.US_ASCII), is("bcd"));
+    }
+
+    @Test
+    void should_return_end_of_stream_if_buffer_is_consumed() {
+        final ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(new byte[] { 42 }));
+
+        assertThat(stream.read(), is(42));
+        assertThat(stream.read(), is(-1));
+        assertThat(stream.read(new byte[2], 0, 2), is(-1));
+    }
+
+    @Test
+    void should_skip_bytes() {
+        final ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+
+        assertThat(stream.skip(2), is(2L));
+        assertThat(stream.available(), is(1));
+        assertThat(stream.skip(5), is(1L));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.ndjson;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.JsonSchemas;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class NdjsonValidatorTest {
+
+    private static final String LINES = String.join(
+        "\n",
+        "{\"id\":1}",
+        "{\"id\":\"2\"}",
+        "",
+        "{\"id\":3}\r",
+        "{\"id\":",
+        "{\"id\":4} {}",
+        "   ",
+        "{\"id\":5}"
+    );
+    private final JsonSchema schema = JsonSchemas.load(
+        "{\"type\":\"object\",\"required\":[\"id\"],\"properties\":{\"id\":{\"type\":\"integer\"}}}"
+    );
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void should_be_valid_if_all_records_are_valid() throws Exception {
+        final NdjsonResult result = new NdjsonValidator(schema).validate(file("{\"id\":1}\n{\"id\":2}\n"));
+
+        assertThat(result.isValid(), is(true));
+        assertThat(result.invalidLines(), is(empty()));
+        assertThat(result.lines(), is(2L));
+        assertThat(result.records(), is(2L));
+        assertThat(result.recordsPerSecond(), is(greaterThan(0.0)));
+    }
+
+    @Test
+    void should_report_line_and_offset_of_invalid_records() throws Exception {
+        final NdjsonResult result = new NdjsonValidator(schema, 2).validate(file(LINES));
+
+        assertThat(result.isValid(), is(false));
+        assertThat(result.lines(), is(8L));
+        assertThat(result.records(), is(6L));
+        assertThat(
+            result.invalidLines(),
+            contains(new InvalidLine(2, 9), new InvalidLine(5, 31), new InvalidLine(6, 38))
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "1, 16, 1", "3, 20, 8", "4, 64, 3" })
+    void should_find_same_invalid_records_with_any_window_and_range_size(
+        final int workers,
+        final long windowSize,
+        final int rangeSize
+    ) throws Exception {
+        assertThat(
+            new NdjsonValidator(schema, workers, windowSize, rangeSize).validate(file(LINES)).invalidLines(),
+            contains(new InvalidLine(2, 9), new InvalidLine(5, 31), new InvalidLine(6, 38))
+        );
+    }
+
+    @Test
+    void should_report_malformed_records_in_unconstrained_values() throws Exception {
+        final NdjsonResult result = new NdjsonValidator(schema).validate(
+            file("{\"id\":1,\"metadata\":{\"a\":[1]}}\n{\"id\":2,\"metadata\":{\"a\" 1 2}}\n")
+        );
+
+        assertThat(result.invalidLines(), contains(new InvalidLine(2, 30)));
+    }
+
+    @Test
+    void should_validate_empty_file() throws Exception {
+        final NdjsonResult result = new NdjsonValidator(schema).validate(file(""));
+
+        assertThat(result.isValid(), is(true));
+        assertThat(result.records(), is(0L));
+    }
+
+    @Test
+    void should_fail_if_line_is_longer_than_window() throws Exception {
+        final Path file = file("{\"id\":1234567890}\n{\"id\":1}");
+        final NdjsonValidator validator = new NdjsonValidator(schema, 1, 8, 4);
+
+        assertThrows(IOException.class, () -> validator.validate(file));
+    }
+
+    @Test
+    void should_not_be_creatable_without_workers() {
+        assertThrows(IllegalArgumentException.class, () -> new NdjsonValidator(schema, 0));
+    }
+
+    private Path file(final String content) throws IOException {
+        return Files.writeString(dir.resolve("records.ndjson"), content);
+    }
+}
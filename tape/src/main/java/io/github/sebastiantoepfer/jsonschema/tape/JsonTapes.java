@@ -0,0 +1,60 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.tape;
+
+import jakarta.json.JsonValue;
+
+/**
+ * Reads json documents into values which are backed by a structural index (a tape) over the utf-8 bytes of the
+ * document. Reading only checks the syntax and records where every value starts and ends, no string, number or map
+ * is created. Strings and numbers are decoded when they are read the first time, objects and arrays are views on
+ * the tape. So a schema which constrains only a few values of a document decodes only these values.
+ * <br/>
+ * The values are immutable and implement the {@link JsonValue} interfaces, they can be validated like any other
+ * json value. The bytes must not be changed while the values are used.
+ */
+public final class JsonTapes {
+
+    private JsonTapes() {}
+
+    /**
+     * @param utf8 utf-8 encoded json document
+     * @return the value of the document
+     * @throws jakarta.json.JsonException if the bytes are not a json document
+     */
+    public static JsonValue read(final byte[] utf8) {
+        return read(utf8, 0, utf8.length);
+    }
+
+    /**
+     * @param utf8 buffer with an utf-8 encoded json document
+     * @param offset position of the first byte of the document in the buffer
+     * @param length number of bytes of the document
+     * @return the value of the document
+     * @throws jakarta.json.JsonException if the bytes are not a json document
+     */
+    public static JsonValue read(final byte[] utf8, final int offset, final int length) {
+        return new TapeBuilder(utf8, offset, length).build().value(0);
+    }
+}
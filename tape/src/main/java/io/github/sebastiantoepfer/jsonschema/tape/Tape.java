@@ -0,0 +1,250 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.tape;
+
+import jakarta.json.JsonValue;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Structural index of a json document: one entry per value (and per property name) in document order. An entry
+ * has a type and two ints:
+ * <ul>
+ * <li>strings and numbers: start and end of the token in the input (strings without the quotes)</li>
+ * <li>objects and arrays: index of the entry after the container and the number of members</li>
+ * </ul>
+ * The members of an object are property name and value entries, alternating.
+ */
+final class Tape {
+
+    static final byte OBJECT = 1;
+    static final byte ARRAY = 2;
+    static final byte STRING = 3;
+    //string with escape sequences, can not be decoded as plain utf-8
+    static final byte ESCAPED_STRING = 4;
+    static final byte NUMBER = 5;
+    static final byte TRUE = 6;
+    static final byte FALSE = 7;
+    static final byte NULL = 8;
+
+    private final byte[] input;
+    private final byte[] types;
+    private final int[] firsts;
+    private final int[] seconds;
+
+    Tape(final byte[] input, final byte[] types, final int[] firsts, final int[] seconds) {
+        this.input = input;
+        this.types = types;
+        this.firsts = firsts;
+        this.seconds = seconds;
+    }
+
+    /**
+     * @param index index of the entry
+     * @return view of the value of the entry, nothing is decoded
+     */
+    JsonValue value(final int index) {
+        return switch (types[index]) {
+            case OBJECT -> new TapeObject(this, index);
+            case ARRAY -> new TapeArray(this, index);
+            case STRING, ESCAPED_STRING -> new TapeString(this, index);
+            case NUMBER -> new TapeNumber(this, index);
+            case TRUE -> JsonValue.TRUE;
+            case FALSE -> JsonValue.FALSE;
+            default -> JsonValue.NULL;
+        };
+    }
+
+    /**
+     * @param index index of an entry
+     * @return index of the entry after the value (and all its members)
+     */
+    int next(final int index) {
+        final int result;
+        if (types[index] == OBJECT || types[index] == ARRAY) {
+            result = firsts[index];
+        } else {
+            result = index + 1;
+        }
+        return result;
+    }
+
+    /**
+     * @param index index of an object or array entry
+     * @return number of members
+     */
+    int members(final int index) {
+        return seconds[index];
+    }
+
+    /**
+     * @param index index of an object entry
+     * @return decoded property name -> index of the value entry, the last of duplicate names wins at the position of
+     * the first one (like a parsed JsonObject)
+     */
+    Map<String, Integer> properties(final int index) {
+        final Map<String, Integer> result = new LinkedHashMap<>();
+        int member = index + 1;
+        for (int i = 0; i < members(index); i++) {
+            result.put(string(member), member + 1);
+            member = next(member + 1);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * @param index index of a string entry
+     * @return the decoded string
+     */
+    String string(final int index) {
+        final String result;
+        if (types[index] == STRING) {
+            result = new String(input, firsts[index], seconds[index] - firsts[index], StandardCharsets.UTF_8);
+        } else {
+            result = unescape(firsts[index], seconds[index]);
+        }
+        return result;
+    }
+
+    private String unescape(final int start, final int end) {
+        final StringBuilder result = new StringBuilder(end - start);
+        int run = start;
+        int i = start;
+        while (i < end) {
+            if (input[i] == '\\') {
+                result.append(new String(input, run, i - run, StandardCharsets.UTF_8));
+                final byte escaped = input[i + 1];
+                if (escaped == 'u') {
+                    result.append((char) Integer.parseInt(token(i + 2, i + 6), 16));
+                    i += 6;
+                } else {
+                    result.append(unescaped(escaped));
+                    i += 2;
+                }
+                run = i;
+            } else {
+                i++;
+            }
+        }
+        return result.append(new String(input, run, end - run, StandardCharsets.UTF_8)).toString();
+    }
+
+    private static char unescaped(final byte escaped) {
+        return switch (escaped) {
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            default -> (char) escaped;
+        };
+    }
+
+    /**
+     * @param index index of a number entry
+     * @return the text of the number
+     */
+    String number(final int index) {
+        return token(firsts[index], seconds[index]);
+    }
+
+    /**
+     * Digits of a number without fraction and exponent, which fit into a long without overflow.
+     *
+     * @param index index of a number entry
+     * @return true if the number is a small integer, which can be read without creating a BigDecimal
+     */
+    boolean isSmallInteger(final int index) {
+        final int start = input[firsts[index]] == '-' ? firsts[index] + 1 : firsts[index];
+        boolean result = seconds[index] - start <= 18;
+        for (int i = start; i < seconds[index] && result; i++) {
+            result = input[i] >= '0' && input[i] <= '9';
+        }
+        return result;
+    }
+
+    /**
+     * @param index index of a number entry, which is a small integer
+     * @return the value of the number
+     */
+    long smallInteger(final int index) {
+        final boolean negative = input[firsts[index]] == '-';
+        long result = 0;
+        for (int i = negative ? firsts[index] + 1 : firsts[index]; i < seconds[index]; i++) {
+            result = result * 10 + (input[i] - '0');
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * Writes the value in its compact json form. Strings and numbers are copied as they are in the input, so the
+     * escape sequences of a string are kept.
+     *
+     * @param index index of the entry
+     * @param json target
+     * @return the target
+     */
+    StringBuilder appendJson(final int index, final StringBuilder json) {
+        switch (types[index]) {
+            case OBJECT -> appendProperties(index, json.append('{')).append('}');
+            case ARRAY -> appendItems(index, json.append('[')).append(']');
+            case STRING, ESCAPED_STRING -> json.append('"').append(token(firsts[index], seconds[index])).append('"');
+            case NUMBER -> json.append(number(index));
+            case TRUE -> json.append("true");
+            case FALSE -> json.append("false");
+            default -> json.append("null");
+        }
+        return json;
+    }
+
+    private StringBuilder appendProperties(final int object, final StringBuilder json) {
+        boolean first = true;
+        for (final int value : properties(object).values()) {
+            if (!first) {
+                json.append(',');
+            }
+            appendJson(value, appendJson(value - 1, json).append(':'));
+            first = false;
+        }
+        return json;
+    }
+
+    private StringBuilder appendItems(final int array, final StringBuilder json) {
+        int item = array + 1;
+        for (int i = 0; i < members(array); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendJson(item, json);
+            item = next(item);
+        }
+        return json;
+    }
+
+    private String token(final int start, final int end) {
+        return new String(input, start, end - start, StandardCharsets.UTF_8);
+    }
+}
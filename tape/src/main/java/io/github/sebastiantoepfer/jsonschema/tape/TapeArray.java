@@ -0,0 +1,190 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.tape;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Array view on the tape. The positions of the items on the tape are found when an item is accessed the first
+ * time, the items are only decoded when they are read.
+ */
+final class TapeArray extends AbstractList<JsonValue> implements JsonArray, RandomAccess {
+
+    private final Tape tape;
+    private final int index;
+    //tape index of every item, never changed after it is published
+    private volatile int[] items;
+    //view of every item, set when the item is read the first time
+    private final AtomicReferenceArray<JsonValue> views;
+
+    TapeArray(final Tape tape, final int index) {
+        this.tape = Objects.requireNonNull(tape);
+        this.index = index;
+        this.views = new AtomicReferenceArray<>(tape.members(index));
+    }
+
+    private int[] items() {
+        int[] result = items;
+        if (result == null) {
+            result = new int[tape.members(index)];
+            int item = index + 1;
+            for (int i = 0; i < result.length; i++) {
+                result[i] = item;
+                item = tape.next(item);
+            }
+            items = result;
+        }
+        return result;
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.ARRAY;
+    }
+
+    @Override
+    public JsonValue get(final int position) {
+        JsonValue result = views.get(Objects.checkIndex(position, size()));
+        if (result == null) {
+            //the view of the first reader wins, so repeated reads return the same instance
+            views.compareAndSet(position, null, tape.value(items()[position]));
+            result = views.get(position);
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return tape.members(index);
+    }
+
+    @Override
+    public JsonObject getJsonObject(final int position) {
+        return (JsonObject) get(position);
+    }
+
+    @Override
+    public JsonArray getJsonArray(final int position) {
+        return (JsonArray) get(position);
+    }
+
+    @Override
+    public JsonNumber getJsonNumber(final int position) {
+        return (JsonNumber) get(position);
+    }
+
+    @Override
+    public JsonString getJsonString(final int position) {
+        return (JsonString) get(position);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends JsonValue> List<T> getValuesAs(final Class<T> clazz) {
+        return (List<T>) this;
+    }
+
+    @Override
+    public String getString(final int position) {
+        return getJsonString(position).getString();
+    }
+
+    @Override
+    public String getString(final int position, final String defaultValue) {
+        final String result;
+        if (position >= 0 && position < size() && get(position) instanceof JsonString string) {
+            result = string.getString();
+        } else {
+            result = defaultValue;
+        }
+        return result;
+    }
+
+    @Override
+    public int getInt(final int position) {
+        return getJsonNumber(position).intValue();
+    }
+
+    @Override
+    public int getInt(final int position, final int defaultValue) {
+        final int result;
+        if (position >= 0 && position < size() && get(position) instanceof JsonNumber number) {
+            result = number.intValue();
+        } else {
+            result = defaultValue;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean getBoolean(final int position) {
+        final JsonValue value = get(position);
+        final boolean result;
+        if (value == JsonValue.TRUE) {
+            result = true;
+        } else if (value == JsonValue.FALSE) {
+            result = false;
+        } else {
+            throw new ClassCastException("item " + position + " is not a boolean");
+        }
+        return result;
+    }
+
+    @Override
+    public boolean getBoolean(final int position, final boolean defaultValue) {
+        final boolean result;
+        if (position >= 0 && position < size()) {
+            final JsonValue value = get(position);
+            if (value == JsonValue.TRUE) {
+                result = true;
+            } else if (value == JsonValue.FALSE) {
+                result = false;
+            } else {
+                result = defaultValue;
+            }
+        } else {
+            result = defaultValue;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isNull(final int position) {
+        return get(position) == JsonValue.NULL;
+    }
+
+    @Override
+    public String toString() {
+        return tape.appendJson(index, new StringBuilder()).toString();
+    }
+}
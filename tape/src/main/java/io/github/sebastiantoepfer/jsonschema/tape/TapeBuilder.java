@@ -0,0 +1,316 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.tape;
+
+import jakarta.json.JsonException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Checks the syntax of a json document and records its values on a tape. Containers are tracked on an explicit
+ * stack, so deeply nested documents do not need a deep call stack.
+ */
+final class TapeBuilder {
+
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private final byte[] input;
+    private final int end;
+    private int pos;
+    private byte[] types;
+    private int[] firsts;
+    private int[] seconds;
+    private int size;
+    //open containers: their tape index and the number of their members read so far
+    private int[] containers = new int[16];
+    private int[] counts = new int[16];
+    private int depth;
+
+    TapeBuilder(final byte[] input, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, input.length);
+        this.input = input;
+        this.pos = offset;
+        this.end = offset + length;
+        final int capacity = length / 8 + 16;
+        this.types = new byte[capacity];
+        this.firsts = new int[capacity];
+        this.seconds = new int[capacity];
+    }
+
+    Tape build() {
+        startValue();
+        while (depth > 0) {
+            skipWhitespace();
+            final int container = containers[depth - 1];
+            if (current() == closingOf(container)) {
+                pos++;
+                close(container);
+            } else {
+                if (counts[depth - 1] > 0) {
+                    expect((byte) ',');
+                }
+                if (types[container] == Tape.OBJECT) {
+                    skipWhitespace();
+                    if (current() != '"') {
+                        throw error("property name expected");
+                    }
+                    readString();
+                    expect((byte) ':');
+                }
+                counts[depth - 1]++;
+                startValue();
+            }
+        }
+        skipWhitespace();
+        if (pos != end) {
+            throw error("end of document expected");
+        }
+        return new Tape(input, types, firsts, seconds);
+    }
+
+    /**
+     * Reads a scalar value or opens a container, whose members are read by {@link #build()}.
+     */
+    private void startValue() {
+        skipWhitespace();
+        final byte c = current();
+        switch (c) {
+            case '{' -> open(Tape.OBJECT);
+            case '[' -> open(Tape.ARRAY);
+            case '"' -> readString();
+            case 't' -> readLiteral(TRUE, Tape.TRUE);
+            case 'f' -> readLiteral(FALSE, Tape.FALSE);
+            case 'n' -> readLiteral(NULL, Tape.NULL);
+            default -> {
+                if (c == '-' || isDigit(c)) {
+                    readNumber();
+                } else {
+                    throw error("value expected");
+                }
+            }
+        }
+    }
+
+    private void open(final byte type) {
+        if (depth == containers.length) {
+            containers = Arrays.copyOf(containers, depth * 2);
+            counts = Arrays.copyOf(counts, depth * 2);
+        }
+        containers[depth] = add(type, 0, 0);
+        counts[depth] = 0;
+        depth++;
+        pos++;
+    }
+
+    private void close(final int container) {
+        firsts[container] = size;
+        seconds[container] = counts[depth - 1];
+        depth--;
+    }
+
+    private byte closingOf(final int container) {
+        final byte result;
+        if (types[container] == Tape.OBJECT) {
+            result = '}';
+        } else {
+            result = ']';
+        }
+        return result;
+    }
+
+    private void readString() {
+        final int start = pos + 1;
+        boolean escaped = false;
+        int i = start;
+        while (i < end && input[i] != '"') {
+            if (input[i] == '\\') {
+                escaped = true;
+                i = skipEscape(i);
+            } else if ((input[i] & 0xFF) < 0x20) {
+                pos = i;
+                throw error("control character in string");
+            } else if (input[i] < 0) {
+                i = skipUtf8Sequence(i);
+            } else {
+                i++;
+            }
+        }
+        if (i == end) {
+            pos = i;
+            throw error("unterminated string");
+        }
+        add(escaped ? Tape.ESCAPED_STRING : Tape.STRING, start, i);
+        pos = i + 1;
+    }
+
+    private int skipEscape(final int backslash) {
+        final int result;
+        if (backslash + 1 >= end) {
+            pos = backslash;
+            throw error("unterminated string");
+        }
+        switch (input[backslash + 1]) {
+            case '"', '\\', '/', 'b', 'f', 'n', 'r', 't' -> result = backslash + 2;
+            case 'u' -> {
+                for (int i = backslash + 2; i < backslash + 6; i++) {
+                    if (i >= end || Character.digit(input[i], 16) < 0) {
+                        pos = backslash;
+                        throw error("invalid unicode escape");
+                    }
+                }
+                result = backslash + 6;
+            }
+            default -> {
+                pos = backslash;
+                throw error("invalid escape");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Strings are decoded lazily, so malformed utf-8 (overlong forms, surrogates, code points above U+10FFFF or
+     * truncated sequences) must be rejected here, like the json parser does it: a decoder would replace it silently.
+     *
+     * @param lead index of a byte which starts a multi byte sequence
+     * @return index after the sequence
+     */
+    private int skipUtf8Sequence(final int lead) {
+        final int b = input[lead] & 0xFF;
+        //allowed range of the second byte and number of continuation bytes (rfc 3629, section 4)
+        final int min;
+        final int max;
+        final int length;
+        if (b >= 0xC2 && b <= 0xDF) {
+            min = 0x80;
+            max = 0xBF;
+            length = 1;
+        } else if (b >= 0xE0 && b <= 0xEF) {
+            min = b == 0xE0 ? 0xA0 : 0x80;
+            max = b == 0xED ? 0x9F : 0xBF;
+            length = 2;
+        } else if (b >= 0xF0 && b <= 0xF4) {
+            min = b == 0xF0 ? 0x90 : 0x80;
+            max = b == 0xF4 ? 0x8F : 0xBF;
+            length = 3;
+        } else {
+            pos = lead;
+            throw error("malformed utf-8");
+        }
+        for (int i = lead + 1; i <= lead + length; i++) {
+            final int lower = i == lead + 1 ? min : 0x80;
+            final int upper = i == lead + 1 ? max : 0xBF;
+            if (i >= end || (input[i] & 0xFF) < lower || (input[i] & 0xFF) > upper) {
+                pos = lead;
+                throw error("malformed utf-8");
+            }
+        }
+        return lead + length + 1;
+    }
+
+    private void readNumber() {
+        final int start = pos;
+        if (input[pos] == '-') {
+            pos++;
+        }
+        if (pos < end && input[pos] == '0') {
+            pos++;
+        } else {
+            digits();
+        }
+        if (pos < end && input[pos] == '.') {
+            pos++;
+            digits();
+        }
+        if (pos < end && (input[pos] == 'e' || input[pos] == 'E')) {
+            pos++;
+            if (pos < end && (input[pos] == '+' || input[pos] == '-')) {
+                pos++;
+            }
+            digits();
+        }
+        add(Tape.NUMBER, start, pos);
+    }
+
+    private void digits() {
+        if (pos >= end || !isDigit(input[pos])) {
+            throw error("digit expected");
+        }
+        while (pos < end && isDigit(input[pos])) {
+            pos++;
+        }
+    }
+
+    private void readLiteral(final byte[] literal, final byte type) {
+        final int literalEnd = pos + literal.length;
+        if (literalEnd > end || !Arrays.equals(input, pos, literalEnd, literal, 0, literal.length)) {
+            throw error("value expected");
+        }
+        add(type, pos, literalEnd);
+        pos = literalEnd;
+    }
+
+    private void expect(final byte c) {
+        skipWhitespace();
+        if (current() != c) {
+            throw error("'" + (char) c + "' expected");
+        }
+        pos++;
+    }
+
+    private void skipWhitespace() {
+        while (pos < end && (input[pos] == ' ' || input[pos] == '\n' || input[pos] == '\r' || input[pos] == '\t')) {
+            pos++;
+        }
+    }
+
+    private byte current() {
+        if (pos >= end) {
+            throw error("unexpected end of document");
+        }
+        return input[pos];
+    }
+
+    private int add(final byte type, final int first, final int second) {
+        if (size == types.length) {
+            types = Arrays.copyOf(types, size * 2);
+            firsts = Arrays.copyOf(firsts, size * 2);
+            seconds = Arrays.copyOf(seconds, size * 2);
+        }
+        types[size] = type;
+        firsts[size] = first;
+        seconds[size] = second;
+        return size++;
+    }
+
+    private JsonException error(final String message) {
+        return new JsonException(message + " at offset " + pos);
+    }
+
+    private static boolean isDigit(final byte c) {
+        return c >= '0' && c <= '9';
+    }
+}
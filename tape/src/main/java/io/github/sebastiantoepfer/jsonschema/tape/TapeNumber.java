@@ -0,0 +1,150 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.tape;
+
+import jakarta.json.JsonNumber;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * Number which is read from the tape when it is used. Integers with up to 18 digits are read without creating a
+ * BigDecimal.
+ */
+final class TapeNumber implements JsonNumber {
+
+    private final Tape tape;
+    private final int index;
+    private BigDecimal value;
+
+    TapeNumber(final Tape tape, final int index) {
+        this.tape = Objects.requireNonNull(tape);
+        this.index = index;
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.NUMBER;
+    }
+
+    @Override
+    public boolean isIntegral() {
+        return tape.isSmallInteger(index) || bigDecimalValue().scale() == 0;
+    }
+
+    @Override
+    public int intValue() {
+        final int result;
+        if (tape.isSmallInteger(index)) {
+            result = (int) tape.smallInteger(index);
+        } else {
+            result = bigDecimalValue().intValue();
+        }
+        return result;
+    }
+
+    @Override
+    public int intValueExact() {
+        return bigDecimalValue().intValueExact();
+    }
+
+    @Override
+    public long longValue() {
+        final long result;
+        if (tape.isSmallInteger(index)) {
+            result = tape.smallInteger(index);
+        } else {
+            result = bigDecimalValue().longValue();
+        }
+        return result;
+    }
+
+    @Override
+    public long longValueExact() {
+        final long result;
+        if (tape.isSmallInteger(index)) {
+            result = tape.smallInteger(index);
+        } else {
+            result = bigDecimalValue().longValueExact();
+        }
+        return result;
+    }
+
+    @Override
+    public BigInteger bigIntegerValue() {
+        return bigDecimalValue().toBigInteger();
+    }
+
+    @Override
+    public BigInteger bigIntegerValueExact() {
+        return bigDecimalValue().toBigIntegerExact();
+    }
+
+    @Override
+    public double doubleValue() {
+        final double result;
+        if (tape.isSmallInteger(index)) {
+            result = tape.smallInteger(index);
+        } else {
+            result = bigDecimalValue().doubleValue();
+        }
+        return result;
+    }
+
+    @Override
+    public BigDecimal bigDecimalValue() {
+        BigDecimal result = value;
+        if (result == null) {
+            result = new BigDecimal(tape.number(index));
+            value = result;
+        }
+        return result;
+    }
+
+    @Override
+    public Number numberValue() {
+        final Number result;
+        if (tape.isSmallInteger(index)) {
+            result = tape.smallInteger(index);
+        } else {
+            result = bigDecimalValue();
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return bigDecimalValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof JsonNumber other && bigDecimalValue().equals(other.bigDecimalValue());
+    }
+
+    @Override
+    public String toString() {
+        return bigDecimalValue().toString();
+    }
+}
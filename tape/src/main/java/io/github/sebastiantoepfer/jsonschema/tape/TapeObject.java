@@ -0,0 +1,219 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.tape;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Object view on the tape. The property names are decoded when the object is accessed the first time, the values
+ * only when they are read.
+ */
+final class TapeObject extends AbstractMap<String, JsonValue> implements JsonObject {
+
+    private final Tape tape;
+    private final int index;
+    //name -> tape index of the value, the last of duplicate names wins (like a parsed JsonObject)
+    private volatile Map<String, Integer> properties;
+    //name -> view of the value, filled when a value is read
+    private final Map<String, JsonValue> views;
+
+    TapeObject(final Tape tape, final int index) {
+        this.tape = Objects.requireNonNull(tape);
+        this.index = index;
+        this.views = new ConcurrentHashMap<>();
+    }
+
+    private Map<String, Integer> properties() {
+        Map<String, Integer> result = properties;
+        if (result == null) {
+            result = tape.properties(index);
+            properties = result;
+        }
+        return result;
+    }
+
+    /**
+     * The view of a value is created once, repeated reads of a property return the same instance.
+     */
+    private JsonValue valueOf(final String name, final int value) {
+        return views.computeIfAbsent(name, n -> tape.value(value));
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.OBJECT;
+    }
+
+    @Override
+    public JsonValue get(final Object name) {
+        final Integer value = properties().get(name);
+        final JsonValue result;
+        if (value == null) {
+            result = null;
+        } else {
+            result = valueOf((String) name, value);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean containsKey(final Object name) {
+        return properties().containsKey(name);
+    }
+
+    @Override
+    public int size() {
+        return properties().size();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return properties().keySet();
+    }
+
+    @Override
+    public Set<Entry<String, JsonValue>> entrySet() {
+        return new Properties();
+    }
+
+    @Override
+    public JsonArray getJsonArray(final String name) {
+        return (JsonArray) get(name);
+    }
+
+    @Override
+    public JsonObject getJsonObject(final String name) {
+        return (JsonObject) get(name);
+    }
+
+    @Override
+    public JsonNumber getJsonNumber(final String name) {
+        return (JsonNumber) get(name);
+    }
+
+    @Override
+    public JsonString getJsonString(final String name) {
+        return (JsonString) get(name);
+    }
+
+    @Override
+    public String getString(final String name) {
+        return getJsonString(name).getString();
+    }
+
+    @Override
+    public String getString(final String name, final String defaultValue) {
+        final String result;
+        if (get(name) instanceof JsonString string) {
+            result = string.getString();
+        } else {
+            result = defaultValue;
+        }
+        return result;
+    }
+
+    @Override
+    public int getInt(final String name) {
+        return getJsonNumber(name).intValue();
+    }
+
+    @Override
+    public int getInt(final String name, final int defaultValue) {
+        final int result;
+        if (get(name) instanceof JsonNumber number) {
+            result = number.intValue();
+        } else {
+            result = defaultValue;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean getBoolean(final String name) {
+        final JsonValue value = Objects.requireNonNull(get(name), name);
+        final boolean result;
+        if (value == JsonValue.TRUE) {
+            result = true;
+        } else if (value == JsonValue.FALSE) {
+            result = false;
+        } else {
+            throw new ClassCastException(name + " is not a boolean");
+        }
+        return result;
+    }
+
+    @Override
+    public boolean getBoolean(final String name, final boolean defaultValue) {
+        final JsonValue value = get(name);
+        final boolean result;
+        if (value == JsonValue.TRUE) {
+            result = true;
+        } else if (value == JsonValue.FALSE) {
+            result = false;
+        } else {
+            result = defaultValue;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isNull(final String name) {
+        return Objects.requireNonNull(get(name), name) == JsonValue.NULL;
+    }
+
+    @Override
+    public String toString() {
+        return tape.appendJson(index, new StringBuilder()).toString();
+    }
+
+    private final class Properties extends AbstractSet<Entry<String, JsonValue>> {
+
+        @Override
+        public Iterator<Entry<String, JsonValue>> iterator() {
+            return properties()
+                .entrySet()
+                .stream()
+                .<Entry<String, JsonValue>>map(property ->
+                    new SimpleImmutableEntry<>(property.getKey(), valueOf(property.getKey(), property.getValue()))
+                )
+                .iterator();
+        }
+
+        @Override
+        public int size() {
+            return properties().size();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.tape;
+
+import jakarta.json.JsonString;
+import java.util.Objects;
+
+final class TapeString implements JsonString {
+
+    private final Tape tape;
+    private final int index;
+    //decoded on first use, a string is immutable -> a race only decodes twice
+    private String value;
+
+    TapeString(final Tape tape, final int index) {
+        this.tape = Objects.requireNonNull(tape);
+        this.index = index;
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.STRING;
+    }
+
+    @Override
+    public String getString() {
+        String result = value;
+        if (result == null) {
+            result = tape.string(index);
+            value = result;
+        }
+        return result;
+    }
+
+    @Override
+    public CharSequence getChars() {
+        return getString();
+    }
+
+    @Override
+    public int hashCode() {
+        return getString().hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof JsonString other && getString().equals(other.getString());
+    }
+
+    @Override
+    public String toString() {
+        return tape.appendJson(index, new StringBuilder()).toString();
+    }
+}
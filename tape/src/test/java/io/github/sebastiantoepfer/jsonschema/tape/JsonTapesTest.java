@@ -0,0 +1,163 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.tape;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.sebastiantoepfer.jsonschema.JsonSchema;
+import io.github.sebastiantoepfer.jsonschema.JsonSchemas;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JsonTapesTest {
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "true",
+            "null",
+            " -12.5e-3 ",
+            "\"a\\n\\u00e4\\\"\\/b\"",
+            "\"\u00e4\u20ac\"",
+            "[]",
+            "{}",
+            "[1,\"a\",[true,false,null],{\"b\":{}}]",
+            "{ \"a\" : [ 1 , 2 ] , \"b\\t\" : { \"c\" : \"d\" } , \"e\" : 12345678901234567890 }",
+        }
+    )
+    void should_be_equal_to_parsed_value(final String json) {
+        final JsonValue expected = Json.createReader(new StringReader(json)).readValue();
+        final JsonValue tape = read(json);
+
+        assertThat(tape, is(expected));
+        assertThat(expected, is(tape));
+        assertThat(tape.hashCode(), is(expected.hashCode()));
+        assertThat(tape.getValueType(), is(expected.getValueType()));
+    }
+
+    @Test
+    void should_print_compact_json() {
+        assertThat(
+            read(" { \"a\" : [ 1 , \"b\\n\" ] , \"c\" : null } ").toString(),
+            is("{\"a\":[1,\"b\\n\"],\"c\":null}")
+        );
+    }
+
+    @Test
+    void should_provide_object_accessors() {
+        final JsonObject object = read(
+            "{\"s\":\"x\",\"i\":42,\"t\":true,\"n\":null,\"o\":{\"a\":1},\"l\":[1,2]}"
+        ).asJsonObject();
+
+        assertThat(object.keySet(), contains("s", "i", "t", "n", "o", "l"));
+        assertThat(object.getString("s"), is("x"));
+        assertThat(object.getString("i", "default"), is("default"));
+        assertThat(object.getInt("i"), is(42));
+        assertThat(object.getInt("s", 7), is(7));
+        assertThat(object.getBoolean("t"), is(true));
+        assertThat(object.getBoolean("x", false), is(false));
+        assertThat(object.isNull("n"), is(true));
+        assertThat(object.getJsonObject("o").getInt("a"), is(1));
+        assertThat(object.getJsonArray("l").getInt(1), is(2));
+        assertThat(object.get("unknown"), is(nullValue()));
+    }
+
+    @Test
+    void should_use_last_value_of_duplicate_names() {
+        final JsonObject object = read("{\"a\":1,\"b\":2,\"a\":3}").asJsonObject();
+
+        assertThat(object.size(), is(2));
+        assertThat(object.getInt("a"), is(3));
+        assertThat(object.toString(), is("{\"a\":3,\"b\":2}"));
+        assertThat(read("[{\"a\":1,\"a\":{\"c\":2,\"c\":3}}]").toString(), is("[{\"a\":{\"c\":3}}]"));
+    }
+
+    @Test
+    void should_return_same_view_on_every_read() {
+        final JsonObject object = read("{\"a\":\"x\",\"b\":[1,{\"c\":2}]}").asJsonObject();
+
+        assertThat(object.get("a"), is(sameInstance(object.get("a"))));
+        assertThat(object.getJsonArray("b").get(1), is(sameInstance(object.getJsonArray("b").get(1))));
+        assertThat(object.entrySet().iterator().next().getValue(), is(sameInstance(object.get("a"))));
+    }
+
+    @Test
+    void should_read_numbers() {
+        final JsonArray numbers = read("[12,-7,1.0,1e2,123456789012345678901]").asJsonArray();
+
+        assertThat(numbers.getJsonNumber(0).isIntegral(), is(true));
+        assertThat(numbers.getJsonNumber(0).longValue(), is(12L));
+        assertThat(numbers.getJsonNumber(1).intValue(), is(-7));
+        assertThat(numbers.getJsonNumber(1).doubleValue(), is(-7.0));
+        assertThat(numbers.getJsonNumber(2).isIntegral(), is(false));
+        assertThat(numbers.getJsonNumber(3).bigDecimalValue(), is(new BigDecimal("1e2")));
+        assertThat(numbers.getJsonNumber(4).bigIntegerValue(), is(new BigInteger("123456789012345678901")));
+        assertThrows(ArithmeticException.class, () -> numbers.getJsonNumber(4).longValueExact());
+    }
+
+    @Test
+    void should_read_part_of_a_buffer() {
+        final byte[] bytes = "xx[1,2]yy".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(JsonTapes.read(bytes, 2, 5), is(Json.createArrayBuilder().add(1).add(2).build()));
+    }
+
+    @Test
+    void should_be_usable_as_validation_input() {
+        final JsonSchema schema = JsonSchemas.load(
+            "{\"type\":\"object\",\"required\":[\"id\"],\"properties\":{\"id\":{\"type\":\"integer\",\"minimum\":1}}," +
+            "\"additionalProperties\":{\"type\":\"string\"}}"
+        );
+
+        assertThat(schema.applyTo(read("{\"id\":1,\"name\":\"a\"}")), is(true));
+        assertThat(schema.applyTo(read("{\"id\":0,\"name\":\"a\"}")), is(false));
+        assertThat(schema.applyTo(read("{\"id\":1,\"name\":2}")), is(false));
+    }
+
+    @Test
+    void should_not_be_modifiable() {
+        final JsonObject object = read("{\"a\":1}").asJsonObject();
+
+        assertThrows(UnsupportedOperationException.class, () -> object.put("b", JsonValue.NULL));
+        assertThrows(UnsupportedOperationException.class, () -> object.keySet().remove("a"));
+    }
+
+    private static JsonValue read(final String json) {
+        return JsonTapes.read(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
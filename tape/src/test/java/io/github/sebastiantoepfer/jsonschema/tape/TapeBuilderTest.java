@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.tape;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.json.JsonException;
+import jakarta.json.JsonValue;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TapeBuilderTest {
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "",
+            " ",
+            "[",
+            "[1,]",
+            "[,1]",
+            "[1 2]",
+            "[1]]",
+            "{\"a\":1,}",
+            "{\"a\" 1}",
+            "{a:1}",
+            "{\"a\":1}}",
+            "01",
+            "1.",
+            "-",
+            "1e",
+            "+1",
+            ".5",
+            "\"abc",
+            "\"a\\x\"",
+            "\"a\\u12\"",
+            "\"a\tb\"",
+            "tru",
+            "nul",
+            "{} {}",
+        }
+    )
+    void should_reject_invalid_json(final String json) {
+        final TapeBuilder builder = builderOf(json);
+
+        assertThrows(JsonException.class, builder::build);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            //lone continuation byte
+            "22 80 22",
+            //overlong encoding of /
+            "22 C0 AF 22",
+            "22 E0 80 AF 22",
+            //utf-16 surrogate
+            "22 ED A0 80 22",
+            //above U+10FFFF
+            "22 F4 90 80 80 22",
+            "22 F5 80 80 80 22",
+            //truncated sequences
+            "22 C3 22",
+            "22 E2 82 22",
+        }
+    )
+    void should_reject_malformed_utf8_in_strings(final String hex) {
+        final byte[] bytes = HexFormat.ofDelimiter(" ").parseHex(hex);
+        final TapeBuilder builder = new TapeBuilder(bytes, 0, bytes.length);
+
+        assertThrows(JsonException.class, builder::build);
+    }
+
+    @Test
+    void should_read_strings_with_multi_byte_characters() {
+        assertThat(
+            builderOf("[\"\u00e4\u20ac\ud83d\ude00\"]").build().value(0).asJsonArray().getString(0),
+            is("\u00e4\u20ac\ud83d\ude00")
+        );
+    }
+
+    @Test
+    void should_read_deeply_nested_arrays() {
+        final Tape tape = builderOf("[".repeat(100_000) + "]".repeat(100_000)).build();
+
+        assertThat(tape.value(0).getValueType(), is(JsonValue.ValueType.ARRAY));
+        assertThat(tape.members(0), is(1));
+        assertThat(tape.next(0), is(100_000));
+    }
+
+    @Test
+    void should_skip_containers_on_tape() {
+        final Tape tape = builderOf("{\"a\":[1,[2,3]],\"b\":4}").build();
+
+        //0: object, 1: "a", 2: array, 3: 1, 4: array, 5: 2, 6: 3, 7: "b", 8: 4
+        assertThat(tape.next(2), is(7));
+        assertThat(tape.members(0), is(2));
+        assertThat(tape.members(2), is(2));
+    }
+
+    private static TapeBuilder builderOf(final String json) {
+        final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return new TapeBuilder(bytes, 0, bytes.length);
+    }
+}
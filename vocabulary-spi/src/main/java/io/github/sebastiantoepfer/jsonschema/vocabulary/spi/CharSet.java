@@ -0,0 +1,160 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.vocabulary.spi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable set of code points, stored as sorted and disjoint ranges. Unpaired surrogates of the input are read
+ * as code points of their own (like java does), so they are part of the complement of a set without surrogates.
+ */
+final class CharSet {
+
+    private static final int MAX_CODE_POINT = Character.MAX_CODE_POINT;
+    static final CharSet DIGITS = ranges('0', '9');
+    static final CharSet WORD_CHARS = ranges('0', '9', 'A', 'Z', '_', '_', 'a', 'z');
+    //WhiteSpace and LineTerminator of ECMA-262
+    static final CharSet SPACES = ranges(
+        '\t',
+        '\r',
+        ' ',
+        ' ',
+        0x00A0,
+        0x00A0,
+        0x1680,
+        0x1680,
+        0x2000,
+        0x200A,
+        0x2028,
+        0x2029,
+        0x202F,
+        0x202F,
+        0x205F,
+        0x205F,
+        0x3000,
+        0x3000,
+        0xFEFF,
+        0xFEFF
+    );
+    static final CharSet ANY_BUT_LINE_TERMINATORS = ranges('\n', '\n', '\r', '\r', 0x2028, 0x2029).complement();
+
+    //start and end (inclusive) of each range
+    private final int[] bounds;
+
+    private CharSet(final int[] bounds) {
+        this.bounds = bounds;
+    }
+
+    static CharSet single(final int codePoint) {
+        return ranges(codePoint, codePoint);
+    }
+
+    /**
+     * @param bounds pairs of inclusive start and end of the ranges
+     */
+    static CharSet ranges(final int... bounds) {
+        final List<int[]> ranges = new ArrayList<>();
+        for (int i = 0; i < bounds.length; i += 2) {
+            ranges.add(new int[] { bounds[i], bounds[i + 1] });
+        }
+        return normalized(ranges);
+    }
+
+    private static CharSet normalized(final List<int[]> ranges) {
+        ranges.sort(Comparator.comparingInt(r -> r[0]));
+        final List<int[]> merged = new ArrayList<>();
+        for (final int[] range : ranges) {
+            if (!merged.isEmpty() && merged.get(merged.size() - 1)[1] + 1 >= range[0]) {
+                final int[] last = merged.get(merged.size() - 1);
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(new int[] { range[0], range[1] });
+            }
+        }
+        return new CharSet(merged.stream().flatMapToInt(Arrays::stream).toArray());
+    }
+
+    CharSet union(final CharSet other) {
+        final List<int[]> ranges = new ArrayList<>();
+        for (final int[] b : List.of(bounds, other.bounds)) {
+            for (int i = 0; i < b.length; i += 2) {
+                ranges.add(new int[] { b[i], b[i + 1] });
+            }
+        }
+        return normalized(ranges);
+    }
+
+    CharSet complement() {
+        final List<int[]> ranges = new ArrayList<>();
+        int next = 0;
+        for (int i = 0; i < bounds.length; i += 2) {
+            if (bounds[i] > next) {
+                ranges.add(new int[] { next, bounds[i] - 1 });
+            }
+            next = bounds[i + 1] + 1;
+        }
+        if (next <= MAX_CODE_POINT) {
+            ranges.add(new int[] { next, MAX_CODE_POINT });
+        }
+        return normalized(ranges);
+    }
+
+    boolean contains(final int codePoint) {
+        int low = 0;
+        int high = bounds.length / 2 - 1;
+        boolean result = false;
+        while (low <= high && !result) {
+            final int mid = (low + high) >>> 1;
+            if (codePoint < bounds[2 * mid]) {
+                high = mid - 1;
+            } else if (codePoint > bounds[2 * mid + 1]) {
+                low = mid + 1;
+            } else {
+                result = true;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the only code point of this set or -1 if this set contains none or more than one code point
+     */
+    int singleCodePoint() {
+        final int result;
+        if (bounds.length == 2 && bounds[0] == bounds[1]) {
+            result = bounds[0];
+        } else {
+            result = -1;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CharSet{" + Arrays.toString(bounds) + '}';
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.vocabulary.spi;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.stream.Stream;
+
+/**
+ * Asks the given engines in order and uses the first one which supports the pattern. The default order is: the
+ * engines provided through the {@link ServiceLoader}, the linear time {@link LinearRegexEngine} and the
+ * {@link JavaRegexEngine} for all constructs the linear engine does not support. So every valid pattern can be
+ * compiled.
+ */
+public final class DefaultRegexEngine implements RegexEngine {
+
+    private final List<RegexEngine> engines;
+
+    /**
+     * @return the engine with the default order, created once: the {@link ServiceLoader} is only asked the first time
+     */
+    public static DefaultRegexEngine shared() {
+        return Shared.INSTANCE;
+    }
+
+    public DefaultRegexEngine() {
+        this(
+            Stream.concat(
+                ServiceLoader.load(RegexEngine.class).stream().map(ServiceLoader.Provider::get),
+                Stream.of(new LinearRegexEngine(), new JavaRegexEngine())
+            ).toList()
+        );
+    }
+
+    public DefaultRegexEngine(final Collection<? extends RegexEngine> engines) {
+        this.engines = List.copyOf(engines);
+    }
+
+    @Override
+    public Optional<Regex> compile(final String pattern) {
+        return engines.stream().map(engine -> engine.compile(pattern)).flatMap(Optional::stream).findFirst();
+    }
+
+    /**
+     * @param pattern regular expression
+     * @return the compiled regular expression
+     * @throws IllegalArgumentException if the pattern is invalid or no engine supports it
+     */
+    public Regex compileOrFail(final String pattern) {
+        return compile(pattern).orElseThrow(
+            () -> new IllegalArgumentException("no regex engine supports pattern: " + pattern)
+        );
+    }
+
+    private static final class Shared {
+
+        private static final DefaultRegexEngine INSTANCE = new DefaultRegexEngine();
+    }
+}
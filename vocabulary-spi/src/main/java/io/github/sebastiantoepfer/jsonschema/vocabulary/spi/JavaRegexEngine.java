@@ -0,0 +1,64 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.vocabulary.spi;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Engine based on {@link java.util.regex.Pattern}. Supports every pattern java can compile, but uses backtracking:
+ * hostile inputs can need super-linear time.
+ */
+public final class JavaRegexEngine implements RegexEngine {
+
+    @Override
+    public Optional<Regex> compile(final String pattern) {
+        return Optional.of(new JavaRegex(Pattern.compile(pattern)));
+    }
+
+    private static final class JavaRegex implements Regex {
+
+        private final Pattern pattern;
+
+        JavaRegex(final Pattern pattern) {
+            this.pattern = Objects.requireNonNull(pattern);
+        }
+
+        @Override
+        public String pattern() {
+            return pattern.pattern();
+        }
+
+        @Override
+        public boolean find(final CharSequence input) {
+            return pattern.matcher(input).find();
+        }
+
+        @Override
+        public String toString() {
+            return pattern();
+        }
+    }
+}
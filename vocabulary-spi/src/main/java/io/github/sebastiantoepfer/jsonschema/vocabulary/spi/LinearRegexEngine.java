@@ -0,0 +1,82 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.vocabulary.spi;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Engine which simulates an automaton of the pattern: needs linear time in the length of the input for every
+ * pattern it supports. Supports the ECMA-262 subset most schemas use (literals, classes, groups, alternatives and
+ * quantifiers) but no backreferences, lookarounds or word boundaries. Follows ECMA-262 where it differs from java:
+ * $ only matches at the end of the input, \s matches all ECMA-262 whitespaces and line terminators. Like java
+ * (and ECMA-262 with the u flag) the input is read as code points, a surrogate pair is one char.
+ *
+ * Patterns of a simple shape (literals and runs of a char class) are searched without an automaton
+ * ({@link PatternAnalyser}).
+ */
+public final class LinearRegexEngine implements RegexEngine {
+
+    static final int MAX_STATES = 10_000;
+
+    @Override
+    public Optional<Regex> compile(final String pattern) {
+        Optional<Regex> result;
+        try {
+            final RegexParser parser = new RegexParser(pattern);
+            result = new PatternAnalyser(pattern, parser)
+                .specialisedRegex()
+                .or(() -> Optional.of(new LinearRegex(pattern, parser.compile(MAX_STATES))));
+        } catch (UnsupportedRegexException e) {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    private static final class LinearRegex implements Regex {
+
+        private final String pattern;
+        private final RegexProgram program;
+
+        LinearRegex(final String pattern, final RegexProgram program) {
+            this.pattern = Objects.requireNonNull(pattern);
+            this.program = Objects.requireNonNull(program);
+        }
+
+        @Override
+        public String pattern() {
+            return pattern;
+        }
+
+        @Override
+        public boolean find(final CharSequence input) {
+            return program.find(input);
+        }
+
+        @Override
+        public String toString() {
+            return pattern();
+        }
+    }
+}
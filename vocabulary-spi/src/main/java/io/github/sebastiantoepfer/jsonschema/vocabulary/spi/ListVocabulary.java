@@ -23,19 +23,26 @@
  */
 package io.github.sebastiantoepfer.jsonschema.vocabulary.spi;
 
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
 import io.github.sebastiantoepfer.jsonschema.Vocabulary;
 import io.github.sebastiantoepfer.jsonschema.keyword.KeywordType;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
+/**
+ * Vocabulary backed by a fixed set of keyword types. The keyword types are indexed by their name, if a name is
+ * used more than once the first keyword type wins.
+ */
 public final class ListVocabulary implements Vocabulary {
 
     private final URI id;
-    private final List<KeywordType> keywords;
+    private final Map<String, KeywordType> keywords;
 
     public ListVocabulary(final URI id, final KeywordType... keywortds) {
         this(id, Arrays.asList(keywortds));
@@ -43,7 +50,9 @@ public final class ListVocabulary implements Vocabulary {
 
     public ListVocabulary(final URI id, final Collection<KeywordType> keywords) {
         this.id = Objects.requireNonNull(id);
-        this.keywords = List.copyOf(keywords);
+        this.keywords = keywords
+            .stream()
+            .collect(toUnmodifiableMap(KeywordType::name, Function.identity(), (first, second) -> first));
     }
 
     @Override
@@ -53,9 +62,6 @@ public final class ListVocabulary implements Vocabulary {
 
     @Override
     public Optional<KeywordType> findKeywordTypeByName(final String name) {
-        return keywords
-            .stream()
-            .filter(keywordType -> keywordType.hasName(name))
-            .findFirst();
+        return Optional.ofNullable(keywords.get(name));
     }
 }
@@ -0,0 +1,228 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.vocabulary.spi;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Recognises patterns of a simple shape and creates specialised regular expressions for them, which search the
+ * input without an automaton and without allocations:
+ * <ul>
+ * <li>literals, like <code>^x-</code> or <code>foo</code>: startsWith, endsWith, equals or indexOf</li>
+ * <li>runs of a char class, like <code>^[a-z0-9_]+$</code>: scan of the code points of the input with an ascii
+ * bitset</li>
+ * </ul>
+ */
+final class PatternAnalyser {
+
+    private final String pattern;
+    private final RegexParser parser;
+
+    PatternAnalyser(final String pattern, final RegexParser parser) {
+        this.pattern = Objects.requireNonNull(pattern);
+        this.parser = Objects.requireNonNull(parser);
+    }
+
+    Optional<Regex> specialisedRegex() {
+        final boolean atBegin = parser.isAnchored();
+        final boolean atEnd = parser.isAnchoredAtEnd();
+        return parser
+            .literal()
+            .<Regex>map(literal -> new LiteralRegex(pattern, literal, atBegin, atEnd))
+            .or(() -> parser.charRun().map(run -> new CharRunRegex(pattern, run, atBegin, atEnd)));
+    }
+
+    private static final class LiteralRegex implements Regex {
+
+        private final String pattern;
+        private final String literal;
+        private final boolean atBegin;
+        private final boolean atEnd;
+
+        LiteralRegex(final String pattern, final String literal, final boolean atBegin, final boolean atEnd) {
+            this.pattern = pattern;
+            this.literal = literal;
+            this.atBegin = atBegin;
+            this.atEnd = atEnd;
+        }
+
+        @Override
+        public String pattern() {
+            return pattern;
+        }
+
+        @Override
+        public boolean find(final CharSequence input) {
+            final String text = input.toString();
+            final boolean result;
+            if (atBegin && atEnd) {
+                result = text.equals(literal);
+            } else if (atBegin) {
+                result = text.startsWith(literal);
+            } else if (atEnd) {
+                result = text.endsWith(literal);
+            } else {
+                result = text.contains(literal);
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return pattern();
+        }
+    }
+
+    private static final class CharRunRegex implements Regex {
+
+        private final String pattern;
+        private final CharSet chars;
+        //chars below 128 of the class, checked without searching the ranges of the class
+        private final long lowAscii;
+        private final long highAscii;
+        private final int min;
+        private final int max;
+        private final boolean atBegin;
+        private final boolean atEnd;
+
+        CharRunRegex(
+            final String pattern,
+            final RegexParser.CharRun run,
+            final boolean atBegin,
+            final boolean atEnd
+        ) {
+            this.pattern = pattern;
+            this.chars = run.chars();
+            this.min = run.min();
+            this.max = run.max();
+            this.atBegin = atBegin;
+            this.atEnd = atEnd;
+            long low = 0L;
+            long high = 0L;
+            for (char c = 0; c < 128; c++) {
+                if (chars.contains(c) && c < 64) {
+                    low |= 1L << c;
+                } else if (chars.contains(c)) {
+                    high |= 1L << (c - 64);
+                }
+            }
+            this.lowAscii = low;
+            this.highAscii = high;
+        }
+
+        @Override
+        public String pattern() {
+            return pattern;
+        }
+
+        @Override
+        public boolean find(final CharSequence input) {
+            final boolean result;
+            if (atBegin && atEnd) {
+                final int run = runAtBegin(input, Integer.MAX_VALUE);
+                result =
+                    run >= min &&
+                    (max == RegexParser.UNBOUNDED || run <= max) &&
+                    run == Character.codePointCount(input, 0, input.length());
+            } else if (atBegin) {
+                //further chars of the run do not change whether there is a match
+                result = runAtBegin(input, min) >= min;
+            } else if (atEnd) {
+                result = runAtEnd(input, min) >= min;
+            } else {
+                result = containsRun(input);
+            }
+            return result;
+        }
+
+        /**
+         * @return the number of code points (but at most limit) of the class the input starts with
+         */
+        private int runAtBegin(final CharSequence input, final int limit) {
+            int result = 0;
+            int i = 0;
+            boolean inClass = true;
+            while (i < input.length() && result < limit && inClass) {
+                final int codePoint = Character.codePointAt(input, i);
+                inClass = isInClass(codePoint);
+                if (inClass) {
+                    result++;
+                    i += Character.charCount(codePoint);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * @return the number of code points (but at most limit) of the class the input ends with
+         */
+        private int runAtEnd(final CharSequence input, final int limit) {
+            int result = 0;
+            int i = input.length();
+            boolean inClass = true;
+            while (i > 0 && result < limit && inClass) {
+                final int codePoint = Character.codePointBefore(input, i);
+                inClass = isInClass(codePoint);
+                if (inClass) {
+                    result++;
+                    i -= Character.charCount(codePoint);
+                }
+            }
+            return result;
+        }
+
+        private boolean containsRun(final CharSequence input) {
+            int run = 0;
+            int i = 0;
+            while (i < input.length() && run < min) {
+                final int codePoint = Character.codePointAt(input, i);
+                if (isInClass(codePoint)) {
+                    run++;
+                } else {
+                    run = 0;
+                }
+                i += Character.charCount(codePoint);
+            }
+            return run >= min;
+        }
+
+        private boolean isInClass(final int c) {
+            final boolean result;
+            if (c < 64) {
+                result = (lowAscii & (1L << c)) != 0;
+            } else if (c < 128) {
+                result = (highAscii & (1L << (c - 64))) != 0;
+            } else {
+                result = chars.contains(c);
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return pattern();
+        }
+    }
+}
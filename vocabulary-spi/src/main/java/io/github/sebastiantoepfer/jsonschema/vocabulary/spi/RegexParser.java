@@ -0,0 +1,621 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.vocabulary.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Parses the ECMA-262 subset supported by the {@link LinearRegexEngine} and compiles it into a
+ * {@link RegexProgram}: literals, escapes (\d \w \s and their negations, control and hex escapes), character
+ * classes with ranges, the dot, ^ and $, groups (capturing groups are treated as non capturing ones), alternatives
+ * and greedy or lazy quantifiers. Everything else (backreferences, lookarounds, word boundaries, unicode property
+ * escapes, ...) raises an {@link UnsupportedRegexException}. Like java (and ECMA-262 with the u flag) the pattern
+ * and the input are read as code points: a surrogate pair is one char for the dot, classes and quantifiers.
+ */
+final class RegexParser {
+
+    static final int UNBOUNDED = -1;
+    private static final int MAX_REPETITION = 1_000;
+    private static final String SYNTAX_CHARS = "^$\\.*+?()[]{}|/-";
+
+    private final String pattern;
+    private final Node root;
+    private int pos;
+
+    /**
+     * @throws UnsupportedRegexException if the pattern contains unsupported constructs (or is invalid)
+     */
+    RegexParser(final String pattern) {
+        this.pattern = pattern;
+        this.root = parseDisjunction();
+        if (pos < pattern.length()) {
+            throw unsupported("unexpected " + pattern.charAt(pos));
+        }
+    }
+
+    RegexProgram compile(final int maxStates) {
+        final RegexProgram.Builder builder = new RegexProgram.Builder(maxStates);
+        emitTo(builder);
+        return builder.build();
+    }
+
+    /**
+     * Adds the states of this pattern as next expression to the builder.
+     *
+     * @return index of the expression
+     */
+    int emitTo(final RegexProgram.Builder builder) {
+        final int result = builder.startExpression(isAnchored());
+        root.emitTo(builder);
+        builder.endExpression(result);
+        return result;
+    }
+
+    /**
+     * @return true if the pattern can only match at the beginning of the input
+     */
+    boolean isAnchored() {
+        return root instanceof Sequence sequence && sequence.startsWith(RegexProgram.ASSERT_BEGIN);
+    }
+
+    /**
+     * @return true if the pattern can only match at the end of the input
+     */
+    boolean isAnchoredAtEnd() {
+        return root instanceof Sequence sequence && sequence.endsWith(RegexProgram.ASSERT_END);
+    }
+
+    /**
+     * @return the chars the pattern consists of (besides ^ and $), empty if the pattern contains anything else
+     */
+    Optional<String> literal() {
+        Optional<String> result = Optional.empty();
+        if (root instanceof Sequence sequence) {
+            result = sequence.literal();
+        }
+        return result;
+    }
+
+    /**
+     * @return the char class (with its repetition) the pattern consists of (besides ^ and $), empty if the pattern
+     * contains anything else
+     */
+    Optional<CharRun> charRun() {
+        Optional<CharRun> result = Optional.empty();
+        if (root instanceof Sequence sequence) {
+            result = sequence.charRun();
+        }
+        return result;
+    }
+
+    /**
+     * @return the literal chars every match starts with (directly after ^ if the pattern is anchored)
+     */
+    String literalPrefix() {
+        final String result;
+        if (root instanceof Sequence sequence) {
+            result = sequence.literalPrefix();
+        } else {
+            result = "";
+        }
+        return result;
+    }
+
+    private Node parseDisjunction() {
+        final List<Node> alternatives = new ArrayList<>();
+        alternatives.add(parseAlternative());
+        while (pos < pattern.length() && pattern.charAt(pos) == '|') {
+            pos++;
+            alternatives.add(parseAlternative());
+        }
+        final Node result;
+        if (alternatives.size() == 1) {
+            result = alternatives.get(0);
+        } else {
+            result = new Alternatives(alternatives);
+        }
+        return result;
+    }
+
+    private Node parseAlternative() {
+        final List<Node> terms = new ArrayList<>();
+        while (pos < pattern.length() && pattern.charAt(pos) != '|' && pattern.charAt(pos) != ')') {
+            terms.add(parseTerm());
+        }
+        return new Sequence(terms);
+    }
+
+    private Node parseTerm() {
+        final Node result;
+        final char c = pattern.charAt(pos);
+        if (c == '^') {
+            pos++;
+            result = new Assertion(RegexProgram.ASSERT_BEGIN);
+        } else if (c == '$') {
+            pos++;
+            result = new Assertion(RegexProgram.ASSERT_END);
+        } else {
+            result = parseQuantifier(parseAtom());
+        }
+        return result;
+    }
+
+    private Node parseAtom() {
+        final Node result;
+        final char c = pattern.charAt(pos++);
+        switch (c) {
+            case '(' -> result = parseGroup();
+            case '.' -> result = new Chars(CharSet.ANY_BUT_LINE_TERMINATORS);
+            case '[' -> result = new Chars(parseClass());
+            case '\\' -> result = new Chars(parseEscape(false));
+            case ')', '*', '+', '?', '{' -> throw unsupported("unexpected " + c);
+            default -> result = new Chars(CharSet.single(literal(c)));
+        }
+        return result;
+    }
+
+    private Node parseGroup() {
+        if (pattern.startsWith("?:", pos)) {
+            pos += 2;
+        } else if (pos < pattern.length() && pattern.charAt(pos) == '?') {
+            throw unsupported("lookarounds and named groups");
+        }
+        final Node result = parseDisjunction();
+        expect(')');
+        return result;
+    }
+
+    private Node parseQuantifier(final Node atom) {
+        Node result = atom;
+        if (pos < pattern.length()) {
+            final char c = pattern.charAt(pos);
+            if (c == '*') {
+                pos++;
+                result = new Repetition(atom, 0, UNBOUNDED);
+            } else if (c == '+') {
+                pos++;
+                result = new Repetition(atom, 1, UNBOUNDED);
+            } else if (c == '?') {
+                pos++;
+                result = new Repetition(atom, 0, 1);
+            } else if (c == '{') {
+                pos++;
+                result = parseBounds(atom);
+            }
+            if (result != atom) {
+                parseQuantifierMode();
+            }
+        }
+        return result;
+    }
+
+    private Node parseBounds(final Node atom) {
+        final int min = parseNumber();
+        final int max;
+        if (pos < pattern.length() && pattern.charAt(pos) == ',') {
+            pos++;
+            if (pos < pattern.length() && pattern.charAt(pos) == '}') {
+                max = UNBOUNDED;
+            } else {
+                max = parseNumber();
+            }
+        } else {
+            max = min;
+        }
+        expect('}');
+        if (max != UNBOUNDED && max < min) {
+            throw unsupported("invalid repetition");
+        }
+        return new Repetition(atom, min, max);
+    }
+
+    private void parseQuantifierMode() {
+        if (pos < pattern.length()) {
+            final char c = pattern.charAt(pos);
+            if (c == '?') {
+                //lazy quantifier: does not change whether there is a match
+                pos++;
+            } else if (c == '+' || c == '*' || c == '{') {
+                throw unsupported("possessive or nested quantifier");
+            }
+        }
+    }
+
+    private int parseNumber() {
+        final int start = pos;
+        while (pos < pattern.length() && pos - start < 5 && Character.isDigit(pattern.charAt(pos))) {
+            pos++;
+        }
+        if (start == pos || pos - start >= 5) {
+            throw unsupported("invalid repetition");
+        }
+        final int result = Integer.parseInt(pattern.substring(start, pos));
+        if (result > MAX_REPETITION) {
+            throw unsupported("repetition too large");
+        }
+        return result;
+    }
+
+    private CharSet parseClass() {
+        final boolean negated = pos < pattern.length() && pattern.charAt(pos) == '^';
+        if (negated) {
+            pos++;
+        }
+        if (pos < pattern.length() && pattern.charAt(pos) == ']') {
+            throw unsupported("empty class");
+        }
+        CharSet result = CharSet.ranges();
+        while (pos < pattern.length() && pattern.charAt(pos) != ']') {
+            final CharSet first = parseClassAtom();
+            if (pattern.startsWith("-", pos) && pos + 1 < pattern.length() && pattern.charAt(pos + 1) != ']') {
+                pos++;
+                final CharSet last = parseClassAtom();
+                result = result.union(range(first, last));
+            } else {
+                result = result.union(first);
+            }
+        }
+        expect(']');
+        if (negated) {
+            result = result.complement();
+        }
+        return result;
+    }
+
+    private CharSet parseClassAtom() {
+        final CharSet result;
+        final char c = pattern.charAt(pos++);
+        if (c == '\\') {
+            result = parseEscape(true);
+        } else if (c == '[' || (c == '&' && pattern.startsWith("&", pos))) {
+            //java: nested classes and intersections
+            throw unsupported("nested class");
+        } else {
+            result = CharSet.single(literal(c));
+        }
+        return result;
+    }
+
+    private static CharSet range(final CharSet first, final CharSet last) {
+        final int start = singleCharOf(first);
+        final int end = singleCharOf(last);
+        if (start > end) {
+            throw unsupported("invalid range");
+        }
+        return CharSet.ranges(start, end);
+    }
+
+    private static int singleCharOf(final CharSet set) {
+        final int result = set.singleCodePoint();
+        if (result < 0) {
+            throw unsupported("class in range");
+        }
+        return result;
+    }
+
+    private CharSet parseEscape(final boolean inClass) {
+        if (pos >= pattern.length()) {
+            throw unsupported("trailing backslash");
+        }
+        final char c = pattern.charAt(pos++);
+        final CharSet result;
+        switch (c) {
+            case 'd' -> result = CharSet.DIGITS;
+            case 'D' -> result = CharSet.DIGITS.complement();
+            case 'w' -> result = CharSet.WORD_CHARS;
+            case 'W' -> result = CharSet.WORD_CHARS.complement();
+            case 's' -> result = CharSet.SPACES;
+            case 'S' -> result = CharSet.SPACES.complement();
+            case 't' -> result = CharSet.single('\t');
+            case 'n' -> result = CharSet.single('\n');
+            case 'r' -> result = CharSet.single('\r');
+            case 'f' -> result = CharSet.single('\f');
+            case 'v' -> result = CharSet.single('\u000B');
+            case 'x' -> result = CharSet.single(parseHex(2));
+            case 'u' -> result = CharSet.single(parseUnicodeEscape());
+            case '0' -> {
+                if (pos < pattern.length() && Character.isDigit(pattern.charAt(pos))) {
+                    throw unsupported("octal escape");
+                }
+                result = CharSet.single('\0');
+            }
+            default -> {
+                if (c == 'b' && inClass) {
+                    result = CharSet.single('\b');
+                } else if (SYNTAX_CHARS.indexOf(c) >= 0 || (!Character.isLetterOrDigit(c) && c < 0x80)) {
+                    result = CharSet.single(c);
+                } else {
+                    throw unsupported("escape \\" + c);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the code point of the escape, a surrogate pair written as two escapes is read as one code point
+     */
+    private int parseUnicodeEscape() {
+        final char first = parseHex(4);
+        final int result;
+        if (Character.isHighSurrogate(first) && pattern.startsWith("\\u", pos)) {
+            pos += 2;
+            result = Character.toCodePoint(first, lowSurrogate(parseHex(4)));
+        } else {
+            result = nonSurrogate(first);
+        }
+        return result;
+    }
+
+    private char parseHex(final int digits) {
+        if (pos + digits > pattern.length()) {
+            throw unsupported("invalid hex escape");
+        }
+        int result = 0;
+        for (int i = 0; i < digits; i++) {
+            final int digit = Character.digit(pattern.charAt(pos++), 16);
+            if (digit < 0) {
+                throw unsupported("invalid hex escape");
+            }
+            result = result * 16 + digit;
+        }
+        return (char) result;
+    }
+
+    private void expect(final char c) {
+        if (pos >= pattern.length() || pattern.charAt(pos) != c) {
+            throw unsupported("missing " + c);
+        }
+        pos++;
+    }
+
+    /**
+     * @return the code point which starts with the char, a surrogate pair of the pattern is read as one code point
+     */
+    private int literal(final char c) {
+        final int result;
+        if (Character.isHighSurrogate(c) && pos < pattern.length() && Character.isLowSurrogate(pattern.charAt(pos))) {
+            result = Character.toCodePoint(c, pattern.charAt(pos++));
+        } else {
+            result = nonSurrogate(c);
+        }
+        return result;
+    }
+
+    private static char nonSurrogate(final char c) {
+        if (Character.isSurrogate(c)) {
+            //ECMA-262 (without u flag) matches unpaired surrogates against code units, java against code points
+            throw unsupported("unpaired surrogate");
+        }
+        return c;
+    }
+
+    private static char lowSurrogate(final char c) {
+        if (!Character.isLowSurrogate(c)) {
+            throw unsupported("unpaired surrogate");
+        }
+        return c;
+    }
+
+    private static UnsupportedRegexException unsupported(final String reason) {
+        return new UnsupportedRegexException(reason);
+    }
+
+    private interface Node {
+        void emitTo(RegexProgram.Builder builder);
+    }
+
+    private static final class Chars implements Node {
+
+        private final CharSet chars;
+
+        Chars(final CharSet chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        public void emitTo(final RegexProgram.Builder builder) {
+            builder.add(RegexProgram.CHAR, chars);
+        }
+    }
+
+    private static final class Assertion implements Node {
+
+        private final int operation;
+
+        Assertion(final int operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public void emitTo(final RegexProgram.Builder builder) {
+            builder.add(operation);
+        }
+    }
+
+    private static final class Sequence implements Node {
+
+        private final List<Node> nodes;
+
+        Sequence(final List<Node> nodes) {
+            this.nodes = List.copyOf(nodes);
+        }
+
+        boolean startsWith(final int assertion) {
+            return !nodes.isEmpty() && nodes.get(0) instanceof Assertion first && first.operation == assertion;
+        }
+
+        boolean endsWith(final int assertion) {
+            return (
+                !nodes.isEmpty() &&
+                nodes.get(nodes.size() - 1) instanceof Assertion last &&
+                last.operation == assertion
+            );
+        }
+
+        private List<Node> withoutAnchors() {
+            final int start = startsWith(RegexProgram.ASSERT_BEGIN) ? 1 : 0;
+            final int end = endsWith(RegexProgram.ASSERT_END) ? nodes.size() - 1 : nodes.size();
+            return nodes.subList(start, Math.max(start, end));
+        }
+
+        Optional<String> literal() {
+            final StringBuilder literal = new StringBuilder();
+            boolean onlyLiterals = true;
+            for (final Node node : withoutAnchors()) {
+                if (node instanceof Chars chars && chars.chars.singleCodePoint() >= 0) {
+                    literal.appendCodePoint(chars.chars.singleCodePoint());
+                } else {
+                    onlyLiterals = false;
+                }
+            }
+            final Optional<String> result;
+            if (onlyLiterals) {
+                result = Optional.of(literal.toString());
+            } else {
+                result = Optional.empty();
+            }
+            return result;
+        }
+
+        Optional<CharRun> charRun() {
+            final List<Node> inner = withoutAnchors();
+            Optional<CharRun> result = Optional.empty();
+            if (inner.size() == 1 && inner.get(0) instanceof Chars chars) {
+                result = Optional.of(new CharRun(chars.chars, 1, 1));
+            } else if (inner.size() == 1 && inner.get(0) instanceof Repetition repetition) {
+                if (repetition.node instanceof Chars chars) {
+                    result = Optional.of(new CharRun(chars.chars, repetition.min, repetition.max));
+                }
+            }
+            return result;
+        }
+
+        String literalPrefix() {
+            final StringBuilder result = new StringBuilder();
+            int index = startsWith(RegexProgram.ASSERT_BEGIN) ? 1 : 0;
+            while (
+                index < nodes.size() && nodes.get(index) instanceof Chars chars && chars.chars.singleCodePoint() >= 0
+            ) {
+                result.appendCodePoint(chars.chars.singleCodePoint());
+                index++;
+            }
+            return result.toString();
+        }
+
+        @Override
+        public void emitTo(final RegexProgram.Builder builder) {
+            nodes.forEach(node -> node.emitTo(builder));
+        }
+    }
+
+    private static final class Alternatives implements Node {
+
+        private final List<Node> alternatives;
+
+        Alternatives(final List<Node> alternatives) {
+            this.alternatives = List.copyOf(alternatives);
+        }
+
+        @Override
+        public void emitTo(final RegexProgram.Builder builder) {
+            final List<Integer> jumpsToEnd = new ArrayList<>();
+            for (int i = 0; i < alternatives.size() - 1; i++) {
+                final int split = builder.add(RegexProgram.SPLIT);
+                builder.target(split, builder.nextState());
+                alternatives.get(i).emitTo(builder);
+                jumpsToEnd.add(builder.add(RegexProgram.JUMP));
+                builder.alternative(split, builder.nextState());
+            }
+            alternatives.get(alternatives.size() - 1).emitTo(builder);
+            jumpsToEnd.forEach(jump -> builder.target(jump, builder.nextState()));
+        }
+    }
+
+    private static final class Repetition implements Node {
+
+        private final Node node;
+        private final int min;
+        private final int max;
+
+        Repetition(final Node node, final int min, final int max) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public void emitTo(final RegexProgram.Builder builder) {
+            for (int i = 0; i < min; i++) {
+                node.emitTo(builder);
+            }
+            if (max == UNBOUNDED) {
+                final int split = builder.add(RegexProgram.SPLIT);
+                builder.target(split, builder.nextState());
+                node.emitTo(builder);
+                builder.target(builder.add(RegexProgram.JUMP), split);
+                builder.alternative(split, builder.nextState());
+            } else {
+                final List<Integer> splits = new ArrayList<>();
+                for (int i = min; i < max; i++) {
+                    final int split = builder.add(RegexProgram.SPLIT);
+                    builder.target(split, builder.nextState());
+                    splits.add(split);
+                    node.emitTo(builder);
+                }
+                splits.forEach(split -> builder.alternative(split, builder.nextState()));
+            }
+        }
+    }
+
+    /**
+     * Chars of a class repeated min to max (or {@link #UNBOUNDED}) times.
+     */
+    static final class CharRun {
+
+        private final CharSet chars;
+        private final int min;
+        private final int max;
+
+        CharRun(final CharSet chars, final int min, final int max) {
+            this.chars = chars;
+            this.min = min;
+            this.max = max;
+        }
+
+        CharSet chars() {
+            return chars;
+        }
+
+        int min() {
+            return min;
+        }
+
+        int max() {
+            return max;
+        }
+    }
+}
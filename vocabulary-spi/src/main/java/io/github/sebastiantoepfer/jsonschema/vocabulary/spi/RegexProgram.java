@@ -0,0 +1,288 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.vocabulary.spi;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Nondeterministic automaton (Thompson construction) of one or more regular expressions. It is simulated by keeping
+ * the set of all active states while the input is read once, so the time is bounded by input length * number of
+ * states (there is no backtracking). The input is read code point by code point: a surrogate pair is one step of
+ * the automaton, an unpaired surrogate is read as code point of its own. Every expression has its own entry state
+ * and its own match state, which records the index of the expression.
+ */
+final class RegexProgram {
+
+    static final int CHAR = 0;
+    static final int SPLIT = 1;
+    static final int JUMP = 2;
+    static final int ASSERT_BEGIN = 3;
+    static final int ASSERT_END = 4;
+    static final int MATCH = 5;
+
+    private final int[] operations;
+    private final CharSet[] sets;
+    //jump target, or the expression index of a match state
+    private final int[] targets;
+    private final int[] alternatives;
+    private final int[] starts;
+    private final boolean[] anchored;
+    private final BitSet expressions;
+
+    private RegexProgram(final Builder builder) {
+        this.operations = builder.operations.stream().mapToInt(Integer::intValue).toArray();
+        this.sets = builder.sets.toArray(CharSet[]::new);
+        this.targets = builder.targets.stream().mapToInt(Integer::intValue).toArray();
+        this.alternatives = builder.alternatives.stream().mapToInt(Integer::intValue).toArray();
+        this.starts = builder.starts.stream().mapToInt(Integer::intValue).toArray();
+        this.anchored = new boolean[starts.length];
+        this.expressions = new BitSet(starts.length);
+        for (int i = 0; i < starts.length; i++) {
+            anchored[i] = builder.anchored.get(i);
+            if (starts[i] >= 0) {
+                expressions.set(i);
+            }
+        }
+    }
+
+    /**
+     * @param input input to search in
+     * @return true if any expression of the automaton matches any substring of the input
+     */
+    boolean find(final CharSequence input) {
+        return !matches(input, expressions).isEmpty();
+    }
+
+    /**
+     * Reads the input once for all candidates. Stops as soon as all candidates have matched, or if no state is
+     * active and all remaining candidates are anchored at the beginning of the input.
+     *
+     * @param input input to search in
+     * @param candidates indices of the expressions to search for
+     * @return indices of the candidates which match any substring of the input
+     */
+    BitSet matches(final CharSequence input, final BitSet candidates) {
+        final BitSet result = new BitSet(starts.length);
+        final int length = input.length();
+        StateSet current = new StateSet(operations.length);
+        StateSet next = new StateSet(operations.length);
+        final int[] stack = new int[2 * operations.length + 1];
+        startAttempts(current, stack, candidates, result, 0, length);
+        int pos = 0;
+        while (pos < length && hasWork(current, candidates, result)) {
+            final int codePoint = Character.codePointAt(input, pos);
+            pos += Character.charCount(codePoint);
+            next.clear();
+            for (int i = 0; i < current.size(); i++) {
+                final int state = current.get(i);
+                if (operations[state] == CHAR && sets[state].contains(codePoint)) {
+                    addState(next, stack, state + 1, pos, length, result);
+                }
+            }
+            //expressions are not anchored -> a new attempt starts at every code point
+            startAttempts(next, stack, candidates, result, pos, length);
+            final StateSet swap = current;
+            current = next;
+            next = swap;
+        }
+        return result;
+    }
+
+    private void startAttempts(
+        final StateSet states,
+        final int[] stack,
+        final BitSet candidates,
+        final BitSet matched,
+        final int pos,
+        final int length
+    ) {
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (!matched.get(i) && (pos == 0 || !anchored[i])) {
+                addState(states, stack, starts[i], pos, length, matched);
+            }
+        }
+    }
+
+    private boolean hasWork(final StateSet current, final BitSet candidates, final BitSet matched) {
+        boolean result = false;
+        for (int i = candidates.nextSetBit(0); i >= 0 && !result; i = candidates.nextSetBit(i + 1)) {
+            result = !matched.get(i) && (current.size() > 0 || !anchored[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Adds the state and all states reachable from it without reading input. Records the expressions whose match
+     * state is reachable.
+     */
+    private void addState(
+        final StateSet states,
+        final int[] stack,
+        final int start,
+        final int pos,
+        final int length,
+        final BitSet matched
+    ) {
+        int top = 0;
+        stack[top++] = start;
+        while (top > 0) {
+            final int state = stack[--top];
+            if (states.add(state)) {
+                switch (operations[state]) {
+                    case SPLIT -> {
+                        stack[top++] = alternatives[state];
+                        stack[top++] = targets[state];
+                    }
+                    case JUMP -> stack[top++] = targets[state];
+                    case ASSERT_BEGIN -> {
+                        if (pos == 0) {
+                            stack[top++] = state + 1;
+                        }
+                    }
+                    case ASSERT_END -> {
+                        if (pos == length) {
+                            stack[top++] = state + 1;
+                        }
+                    }
+                    case MATCH -> matched.set(targets[state]);
+                    default -> {
+                        //char states are consumed by the caller
+                    }
+                }
+            }
+        }
+    }
+
+    static final class Builder {
+
+        private final int maxStates;
+        private final List<Integer> operations = new ArrayList<>();
+        private final List<CharSet> sets = new ArrayList<>();
+        private final List<Integer> targets = new ArrayList<>();
+        private final List<Integer> alternatives = new ArrayList<>();
+        private final List<Integer> starts = new ArrayList<>();
+        private final List<Boolean> anchored = new ArrayList<>();
+
+        Builder(final int maxStates) {
+            this.maxStates = maxStates;
+        }
+
+        int nextState() {
+            return operations.size();
+        }
+
+        int add(final int operation) {
+            return add(operation, null);
+        }
+
+        int add(final int operation, final CharSet set) {
+            if (operations.size() >= maxStates) {
+                throw new UnsupportedRegexException("regular expression needs more than " + maxStates + " states");
+            }
+            operations.add(operation);
+            sets.add(set);
+            targets.add(-1);
+            alternatives.add(-1);
+            return operations.size() - 1;
+        }
+
+        void target(final int state, final int target) {
+            targets.set(state, target);
+        }
+
+        void alternative(final int state, final int alternative) {
+            alternatives.set(state, alternative);
+        }
+
+        /**
+         * Starts the states of the next expression.
+         *
+         * @param anchoredAtBegin true if the expression can only match at the beginning of the input
+         * @return index of the expression
+         */
+        int startExpression(final boolean anchoredAtBegin) {
+            starts.add(nextState());
+            anchored.add(anchoredAtBegin);
+            return starts.size() - 1;
+        }
+
+        /**
+         * Reserves the index of an expression which is not part of this automaton.
+         *
+         * @return index of the expression
+         */
+        int skipExpression() {
+            starts.add(-1);
+            anchored.add(false);
+            return starts.size() - 1;
+        }
+
+        void endExpression(final int expression) {
+            target(add(MATCH), expression);
+        }
+
+        RegexProgram build() {
+            return new RegexProgram(this);
+        }
+    }
+
+    /**
+     * Set of states in insertion order with constant time add, clear and contains (sparse set).
+     */
+    private static final class StateSet {
+
+        private final int[] dense;
+        private final int[] sparse;
+        private int size;
+
+        StateSet(final int capacity) {
+            this.dense = new int[capacity];
+            this.sparse = new int[capacity];
+        }
+
+        boolean add(final int state) {
+            final int index = sparse[state];
+            final boolean result = index >= size || dense[index] != state;
+            if (result) {
+                sparse[state] = size;
+                dense[size++] = state;
+            }
+            return result;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int get(final int index) {
+            return dense[index];
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
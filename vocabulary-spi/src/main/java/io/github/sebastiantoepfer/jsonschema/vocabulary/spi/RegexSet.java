@@ -0,0 +1,136 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.vocabulary.spi;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Set of regular expressions which are searched together: every pattern supported by the {@link LinearRegexEngine}
+ * is part of one combined automaton, which reads the input once for all of them. Before the automaton runs, a
+ * pattern is only kept as candidate if the input contains the literal prefix of the pattern (starts with it, if the
+ * pattern is anchored). All other patterns are compiled by the given engine and searched one after another.
+ */
+public final class RegexSet {
+
+    private final List<String> patterns;
+    private final RegexProgram program;
+    private final String[] literalPrefixes;
+    private final boolean[] anchored;
+    private final Map<Integer, Regex> others;
+
+    /**
+     * @param engine engine for the patterns the linear engine does not support
+     * @param patterns patterns to search
+     * @throws IllegalArgumentException if a pattern is invalid or not supported by the engine
+     */
+    public RegexSet(final RegexEngine engine, final List<String> patterns) {
+        Objects.requireNonNull(engine);
+        this.patterns = List.copyOf(patterns);
+        this.literalPrefixes = new String[this.patterns.size()];
+        this.anchored = new boolean[this.patterns.size()];
+        this.others = new HashMap<>();
+        final RegexProgram.Builder builder = new RegexProgram.Builder(Integer.MAX_VALUE);
+        for (final String pattern : this.patterns) {
+            final RegexParser parser = linearParserFor(pattern);
+            if (parser == null) {
+                others.put(
+                    builder.skipExpression(),
+                    engine
+                        .compile(pattern)
+                        .orElseThrow(() -> new IllegalArgumentException("no regex engine supports pattern: " + pattern))
+                );
+            } else {
+                final int index = parser.emitTo(builder);
+                literalPrefixes[index] = parser.literalPrefix();
+                anchored[index] = parser.isAnchored();
+            }
+        }
+        this.program = builder.build();
+    }
+
+    private static RegexParser linearParserFor(final String pattern) {
+        RegexParser result;
+        try {
+            result = new RegexParser(pattern);
+            //rejects patterns which would need too many states
+            result.compile(LinearRegexEngine.MAX_STATES);
+        } catch (UnsupportedRegexException e) {
+            result = null;
+        }
+        return result;
+    }
+
+    public List<String> patterns() {
+        return patterns;
+    }
+
+    /**
+     * @param input input to search in
+     * @return the indices (in {@link #patterns()}) of all patterns which match any substring of the input
+     */
+    public BitSet matches(final CharSequence input) {
+        final String text = input.toString();
+        final BitSet candidates = new BitSet(patterns.size());
+        for (int i = 0; i < patterns.size(); i++) {
+            if (!others.containsKey(i) && hasLiteralPrefix(i, text)) {
+                candidates.set(i);
+            }
+        }
+        final BitSet result;
+        if (candidates.isEmpty()) {
+            result = new BitSet(patterns.size());
+        } else {
+            result = program.matches(text, candidates);
+        }
+        others.entrySet().stream().filter(e -> e.getValue().find(text)).forEach(e -> result.set(e.getKey()));
+        return result;
+    }
+
+    private boolean hasLiteralPrefix(final int index, final String text) {
+        final boolean result;
+        if (anchored[index]) {
+            result = text.startsWith(literalPrefixes[index]);
+        } else {
+            result = text.contains(literalPrefixes[index]);
+        }
+        return result;
+    }
+
+    /**
+     * @param input input to search in
+     * @return true if any pattern matches any substring of the input
+     */
+    public boolean anyMatch(final CharSequence input) {
+        return !matches(input).isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "RegexSet{" + "patterns=" + patterns + '}';
+    }
+}
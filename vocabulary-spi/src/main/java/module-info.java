@@ -26,5 +26,6 @@ module io.github.sebastiantoepfer.jsonschema.vocabulary.spi {
     exports io.github.sebastiantoepfer.jsonschema.vocabulary.spi;
 
     uses io.github.sebastiantoepfer.jsonschema.vocabulary.spi.LazyVocabularies;
+    uses io.github.sebastiantoepfer.jsonschema.vocabulary.spi.RegexEngine;
     requires io.github.sebastiantoepfer.jsonschema;
 }
@@ -0,0 +1,70 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.vocabulary.spi;
+
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isEmpty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class DefaultRegexEngineTest {
+
+    @Test
+    void should_compile_patterns_supported_by_linear_engine() {
+        assertThat(new DefaultRegexEngine().compileOrFail("^a+$").find("aaa"), is(true));
+    }
+
+    @Test
+    void should_fallback_to_java_for_unsupported_constructs() {
+        final Regex regex = new DefaultRegexEngine().compileOrFail("(a)\\1");
+
+        assertThat(regex.find("aa"), is(true));
+        assertThat(regex.find("ab"), is(false));
+    }
+
+    @Test
+    void should_ask_engines_in_order() {
+        assertThat(
+            new DefaultRegexEngine(List.of(new LinearRegexEngine(), new JavaRegexEngine()))
+                .compileOrFail("\\p{Lu}")
+                .find("A"),
+            is(true)
+        );
+    }
+
+    @Test
+    void should_be_empty_if_no_engine_supports_pattern() {
+        assertThat(new DefaultRegexEngine(List.of(new LinearRegexEngine())).compile("(?=a)"), isEmpty());
+    }
+
+    @Test
+    void should_fail_if_no_engine_supports_pattern() {
+        final DefaultRegexEngine engine = new DefaultRegexEngine(List.of(new LinearRegexEngine()));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> engine.compileOrFail("(?=a)"));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.vocabulary.spi;
+
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isEmpty;
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresent;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LinearRegexEngineTest {
+
+    @Test
+    void should_find_pattern_in_input() {
+        final Regex regex = new LinearRegexEngine().compile("^[a-z]+@\\w+\\.(com|org)$").orElseThrow();
+
+        assertThat(regex.pattern(), is("^[a-z]+@\\w+\\.(com|org)$"));
+        assertThat(regex.find("mail@example.org"), is(true));
+        assertThat(regex.find("mail@example.net"), is(false));
+        assertThat(regex.find("Mail@example.com"), is(false));
+    }
+
+    @Test
+    void should_find_pattern_anywhere_without_anchors() {
+        final Regex regex = new LinearRegexEngine().compile("a{2,3}b?").orElseThrow();
+
+        assertThat(regex.find("xxaax"), is(true));
+        assertThat(regex.find("xxaxa"), is(false));
+    }
+
+    @Test
+    void should_use_ecma_semantics_for_end_anchor() {
+        assertThat(new LinearRegexEngine().compile("^abc$").orElseThrow().find("abc\n"), is(false));
+    }
+
+    @Test
+    void should_use_ecma_semantics_for_whitespaces() {
+        assertThat(new LinearRegexEngine().compile("^\\s$").orElseThrow().find("\u00A0"), is(true));
+    }
+
+    @Test
+    void should_support_escapes_in_classes() {
+        final Regex regex = new LinearRegexEngine().compile("^[\\d\\-\\x41]+$").orElseThrow();
+
+        assertThat(regex.find("1-A"), is(true));
+        assertThat(regex.find("1-B"), is(false));
+    }
+
+    @Test
+    void should_not_support_backreferences() {
+        assertThat(new LinearRegexEngine().compile("(a)\\1"), isEmpty());
+    }
+
+    @Test
+    void should_not_support_lookarounds() {
+        assertThat(new LinearRegexEngine().compile("(?=a)b"), isEmpty());
+    }
+
+    @Test
+    void should_not_support_word_boundaries() {
+        assertThat(new LinearRegexEngine().compile("\\bfoo"), isEmpty());
+    }
+
+    @Test
+    void should_not_support_unicode_properties() {
+        assertThat(new LinearRegexEngine().compile("\\p{L}"), isEmpty());
+    }
+
+    @Test
+    void should_not_support_invalid_patterns() {
+        assertThat(new LinearRegexEngine().compile("(a"), isEmpty());
+        assertThat(new LinearRegexEngine().compile("a{3,1}"), isEmpty());
+        assertThat(new LinearRegexEngine().compile("*a"), isEmpty());
+    }
+
+    @Test
+    void should_support_empty_alternatives() {
+        assertThat(new LinearRegexEngine().compile("a|"), isPresent());
+    }
+
+    @Test
+    void should_read_surrogate_pairs_as_one_char() {
+        final LinearRegexEngine engine = new LinearRegexEngine();
+
+        assertThat(engine.compile("^.$").orElseThrow().find("\uD83D\uDE00"), is(true));
+        assertThat(engine.compile("^[^a]$").orElseThrow().find("\uD83D\uDE00"), is(true));
+        assertThat(engine.compile("^\\S$").orElseThrow().find("\uD83D\uDE00"), is(true));
+        assertThat(engine.compile("^..$").orElseThrow().find("\uD83D\uDE00"), is(false));
+    }
+
+    @Test
+    void should_read_surrogate_pairs_of_the_pattern_as_one_char() {
+        final LinearRegexEngine engine = new LinearRegexEngine();
+
+        assertThat(engine.compile("^\uD83D\uDE00+$").orElseThrow().find("\uD83D\uDE00\uD83D\uDE00"), is(true));
+        assertThat(engine.compile("^\\uD83D\\uDE00?$").orElseThrow().find("\uD83D\uDE00"), is(true));
+        assertThat(engine.compile("^[\uD83D\uDE00-\uD83D\uDE4F]$").orElseThrow().find("\uD83D\uDE03"), is(true));
+        assertThat(engine.compile("^[\uD83D\uDE00-\uD83D\uDE4F]$").orElseThrow().find("\uD83D\uDC00"), is(false));
+    }
+
+    @Test
+    void should_not_support_unpaired_surrogates_in_pattern() {
+        assertThat(new LinearRegexEngine().compile("\\uD83D"), isEmpty());
+    }
+
+    @Test
+    void should_need_linear_time_for_catastrophic_backtracking_patterns_with_surrogate_pairs() {
+        final Regex regex = new LinearRegexEngine().compile("^(a+)+$").orElseThrow();
+        final String input = "a".repeat(50_000) + "\uD83D\uDE00";
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThat(regex.find(input), is(false)));
+    }
+
+    @Test
+    void should_use_ecma_semantics_for_inputs_with_surrogate_pairs() {
+        final LinearRegexEngine engine = new LinearRegexEngine();
+
+        assertThat(engine.compile("^.\\s$").orElseThrow().find("\uD83D\uDE00\u00A0"), is(true));
+        assertThat(engine.compile("^.$").orElseThrow().find("\uD83D\uDE00\n"), is(false));
+    }
+
+    @Test
+    void should_need_linear_time_for_catastrophic_backtracking_patterns() {
+        final Regex regex = new LinearRegexEngine().compile("^(a+)+$").orElseThrow();
+        final String input = "a".repeat(50_000) + "!";
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThat(regex.find(input), is(false)));
+    }
+}
@@ -63,6 +63,19 @@ class ListVocabularyTest {
         );
     }
 
+    @Test
+    void should_return_first_keyword_if_name_is_used_twice() {
+        final KeywordType first = new SimpleTestKeywordType("test");
+        assertThat(
+            new ListVocabulary(
+                URI.create("http://localhost"),
+                first,
+                new SimpleTestKeywordType("test")
+            ).findKeywordTypeByName("test"),
+            isPresentAndIs(first)
+        );
+    }
+
     private static class SimpleTestKeywordType implements KeywordType {
 
         private final String name;
@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.vocabulary.spi;
+
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isEmpty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+class PatternAnalyserTest {
+
+    @Test
+    void should_search_anchored_literal_as_prefix() {
+        final Regex regex = specialisedRegexFor("^x-");
+
+        assertThat(regex.find("x-test"), is(true));
+        assertThat(regex.find("test-x-"), is(false));
+    }
+
+    @Test
+    void should_search_end_anchored_literal_as_suffix() {
+        final Regex regex = specialisedRegexFor("Id$");
+
+        assertThat(regex.find("userId"), is(true));
+        assertThat(regex.find("Identifier"), is(false));
+    }
+
+    @Test
+    void should_search_fully_anchored_literal_as_equal() {
+        final Regex regex = specialisedRegexFor("^a\\.b$");
+
+        assertThat(regex.find("a.b"), is(true));
+        assertThat(regex.find("a.bc"), is(false));
+    }
+
+    @Test
+    void should_search_literal_anywhere() {
+        final Regex regex = specialisedRegexFor("foo");
+
+        assertThat(regex.find("afoob"), is(true));
+        assertThat(regex.find("fo"), is(false));
+    }
+
+    @Test
+    void should_scan_whole_input_for_anchored_char_run() {
+        final Regex regex = specialisedRegexFor("^[a-z0-9_]{2,4}$");
+
+        assertThat(regex.find("a_1"), is(true));
+        assertThat(regex.find("a"), is(false));
+        assertThat(regex.find("a_1b2"), is(false));
+        assertThat(regex.find("a-1"), is(false));
+    }
+
+    @Test
+    void should_scan_start_of_input_for_begin_anchored_char_run() {
+        final Regex regex = specialisedRegexFor("^\\d{2}");
+
+        assertThat(regex.find("12-"), is(true));
+        assertThat(regex.find("1-2"), is(false));
+    }
+
+    @Test
+    void should_scan_end_of_input_for_end_anchored_char_run() {
+        final Regex regex = specialisedRegexFor("\\d+$");
+
+        assertThat(regex.find("a1"), is(true));
+        assertThat(regex.find("1a"), is(false));
+    }
+
+    @Test
+    void should_search_char_run_anywhere() {
+        final Regex regex = specialisedRegexFor("[^a-z]{2}");
+
+        assertThat(regex.find("ab12"), is(true));
+        assertThat(regex.find("a1b2"), is(false));
+    }
+
+    @Test
+    void should_check_non_ascii_chars_against_class() {
+        final Regex regex = specialisedRegexFor("^[\u00E4-\u00FC]+$");
+
+        assertThat(regex.find("\u00F6\u00FC"), is(true));
+        assertThat(regex.find("\u00F6a"), is(false));
+    }
+
+    @Test
+    void should_count_surrogate_pairs_as_one_char_of_a_char_run() {
+        final Regex regex = specialisedRegexFor("^[^a]{2}$");
+
+        assertThat(regex.find("\uD83D\uDE00\uD83D\uDE00"), is(true));
+        assertThat(regex.find("\uD83D\uDE00"), is(false));
+        assertThat(specialisedRegexFor("^[^a]{2}").find("\uD83D\uDE00b"), is(true));
+        assertThat(specialisedRegexFor("[^a]{2}$").find("a\uD83D\uDE00"), is(false));
+        assertThat(specialisedRegexFor("[^a]{2}").find("a\uD83D\uDE00a"), is(false));
+    }
+
+    @Test
+    void should_not_specialise_other_patterns() {
+        assertThat(new PatternAnalyser("^(a|b)+$", new RegexParser("^(a|b)+$")).specialisedRegex(), isEmpty());
+        assertThat(new PatternAnalyser("^a+b$", new RegexParser("^a+b$")).specialisedRegex(), isEmpty());
+    }
+
+    private static Regex specialisedRegexFor(final String pattern) {
+        return new PatternAnalyser(pattern, new RegexParser(pattern)).specialisedRegex().orElseThrow();
+    }
+}
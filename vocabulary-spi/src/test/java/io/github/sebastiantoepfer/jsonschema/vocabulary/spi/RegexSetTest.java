@@ -0,0 +1,84 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 sebastian.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package io.github.sebastiantoepfer.jsonschema.vocabulary.spi;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RegexSetTest {
+
+    private final RegexSet patterns = new RegexSet(
+        new JavaRegexEngine(),
+        List.of("^x-", "^[a-z]+$", "id$", "(a)\\1", "^$")
+    );
+
+    @Test
+    void should_return_indices_of_all_matching_patterns() {
+        assertThat(patterns.matches("x-id").stream().boxed().toList(), contains(0, 2));
+        assertThat(patterns.matches("valid").stream().boxed().toList(), contains(1, 2));
+    }
+
+    @Test
+    void should_search_patterns_not_supported_by_linear_engine_with_given_engine() {
+        assertThat(patterns.matches("baab").stream().boxed().toList(), contains(1, 3));
+    }
+
+    @Test
+    void should_match_empty_input() {
+        assertThat(patterns.matches("").stream().boxed().toList(), contains(4));
+    }
+
+    @Test
+    void should_return_no_indices_if_nothing_matches() {
+        assertThat(patterns.matches("X-Y").stream().boxed().toList(), is(empty()));
+        assertThat(patterns.anyMatch("X-Y"), is(false));
+    }
+
+    @Test
+    void should_know_its_patterns() {
+        assertThat(patterns.patterns(), contains("^x-", "^[a-z]+$", "id$", "(a)\\1", "^$"));
+    }
+
+    @Test
+    void should_fail_for_patterns_no_engine_supports() {
+        final RegexEngine engine = new LinearRegexEngine();
+        final List<String> unsupported = List.of("(?=a)");
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RegexSet(engine, unsupported));
+    }
+
+    @Test
+    void should_read_surrogate_pairs_as_one_char() {
+        final RegexSet set = new RegexSet(new JavaRegexEngine(), List.of("^.$", "^..$", "^[^a]$", "(a)\\1"));
+
+        assertThat(set.matches("\uD83D\uDE00").stream().boxed().toList(), contains(0, 2));
+        assertThat(set.matches("aa").stream().boxed().toList(), contains(1, 3));
+    }
+}
@@ -25,6 +25,7 @@ open module io.github.sebastiantoepfer.jsonschema.vocabulary.spi {
     exports io.github.sebastiantoepfer.jsonschema.vocabulary.spi;
 
     uses io.github.sebastiantoepfer.jsonschema.vocabulary.spi.LazyVocabularies;
+    uses io.github.sebastiantoepfer.jsonschema.vocabulary.spi.RegexEngine;
 
     provides io.github.sebastiantoepfer.jsonschema.vocabulary.spi.LazyVocabularies
         with io.github.sebastiantoepfer.jsonschema.vocabulary.spi.TestLazyVocabularies;